@@ -0,0 +1,38 @@
+package hyunul.schedly.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AnalysisConfig {
+    
+    /**
+     * 기간 분석 시 날짜별 계산을 병렬로 수행하는 전용 풀 (공용 풀과 분리해 동시 요청 수와 무관하게 상한 유지)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool analysisPool(
+            @Value("${schedule.analysis.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0
+                ? parallelism
+                : Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        return new ForkJoinPool(threads);
+    }
+    
+    /**
+     * 추천 결과 DB 기록(write-behind) 전용 단일 스레드 - 같은 그룹/날짜 기록이 순서대로 한 번씩만 실행된다
+     * 종료 시에는 RecommendationWriteBehind가 먼저 남은 기록을 처리하고 종료를 기다린다 (여기서는 중복 shutdown)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService recommendationWriter() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
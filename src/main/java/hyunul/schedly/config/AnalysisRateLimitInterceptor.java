@@ -0,0 +1,35 @@
+package hyunul.schedly.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import hyunul.schedly.dto.CustomUserPrincipal;
+import hyunul.schedly.service.AnalysisRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 미스 시 DB 전체 조회로 이어지는 분석 API 앞에서 사용자별 요청 수 제한
+ * 그룹 버킷은 멤버십 확인 뒤 서비스/컨트롤러에서 차감 (멤버가 아니면 그룹 한도를 건드리지 않음)
+ * 초과하면 RateLimitExceededException → 429 + Retry-After (GlobalExceptionHandler)
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisRateLimitInterceptor implements HandlerInterceptor {
+    
+    private final AnalysisRateLimiter analysisRateLimiter;
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal principal)) {
+            return true; // 인증 실패는 컨트롤러 쪽에서 처리
+        }
+        
+        analysisRateLimiter.acquireUser(principal.getUserId());
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package hyunul.schedly.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AuthConfig {
+    
+    /**
+     * 비밀번호 해시(BCrypt) 전용 풀 - 대기열이 차면 RejectedExecutionException(503)으로 바로 거절해
+     * 로그인이 몰려도 요청 스레드와 CPU를 다른 API에 남겨 둔다
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${auth.password.pool-size:0}") int poolSize,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0
+                ? poolSize
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * 해시 계산 뒤 이어지는 사용자 저장/해시 갱신 전용 풀 - DB 대기가 해시 스레드를 붙잡지 않도록 분리
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor authPersistenceExecutor(
+            @Value("${auth.persistence.pool-size:4}") int poolSize,
+            @Value("${auth.persistence.queue-capacity:256}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auth-persist-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -1,65 +1,71 @@
-// package hyunul.schedly.config;
+package hyunul.schedly.config;
 
-// import java.util.Properties;
+import java.time.Duration;
+import java.util.Map;
 
-// import javax.sql.DataSource;
+import javax.sql.DataSource;
 
-// import org.springframework.boot.context.properties.ConfigurationProperties;
-// import org.springframework.context.annotation.Bean;
-// import org.springframework.context.annotation.Configuration;
-// import org.springframework.orm.jpa.JpaTransactionManager;
-// import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
-// import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
-// import org.springframework.transaction.PlatformTransactionManager;
-// import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
-// import com.zaxxer.hikari.HikariConfig;
-// import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariDataSource;
 
-// @Configuration
-// @EnableTransactionManagement
-// public class DatabaseConfig {
+/**
+ * 원본/복제본 DataSource 구성 (schedule.datasource.replica.jdbc-url 이 있을 때만 활성화)
+ * 원본은 spring.datasource, 복제본은 schedule.datasource.replica 설정을 쓰고,
+ * @Transactional(readOnly = true) 작업만 복제본으로 보낸다. 설정이 없으면 기본 단일 풀을 그대로 쓴다.
+ * 캐시를 채우는 조회(분석, 슬롯 카운터, 멤버십 인덱스)는 트랜잭션 밖이나 쓰기 트랜잭션에서 실행되어 원본을 읽는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "schedule.datasource.replica", name = "jdbc-url")
+public class DatabaseConfig {
     
-//     @Bean
-//     @ConfigurationProperties("spring.datasource.hikari")
-//     public HikariConfig hikariConfig() {
-//         return new HikariConfig();
-//     }
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
     
-//     @Bean
-//     public DataSource dataSource() {
-//         return new HikariDataSource(hikariConfig());
-//     }
+    @Bean
+    @ConfigurationProperties("schedule.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
     
-//     @Bean
-//     public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
-//         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
-//         em.setDataSource(dataSource());
-//         em.setPackagesToScan("com.example.groupscheduler.entity");
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${schedule.datasource.read-your-writes-ms:5000}") long readYourWritesMillis,
+            @Value("${schedule.datasource.unpinned-cache-ms:200}") long unpinnedCacheMillis) {
+        // 고정되지 않음 확인 결과의 로컬 보관은 고정 시간의 1/10을 넘지 않게 한다
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(
+                stringRedisTemplate, Duration.ofMillis(readYourWritesMillis),
+                Duration.ofMillis(Math.min(unpinnedCacheMillis, readYourWritesMillis / 10)));
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
         
-//         HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
-//         vendorAdapter.setGenerateDdl(true);
-//         vendorAdapter.setShowSql(false);
-//         em.setJpaVendorAdapter(vendorAdapter);
-        
-//         Properties properties = new Properties();
-//         properties.setProperty("hibernate.hbm2ddl.auto", "update");
-//         properties.setProperty("hibernate.dialect", "org.hibernate.dialect.MySQL8Dialect");
-//         properties.setProperty("hibernate.show_sql", "false");
-//         properties.setProperty("hibernate.format_sql", "true");
-//         properties.setProperty("hibernate.use_sql_comments", "true");
-//         properties.setProperty("hibernate.jdbc.batch_size", "20");
-//         properties.setProperty("hibernate.order_inserts", "true");
-//         properties.setProperty("hibernate.order_updates", "true");
-//         em.setJpaProperties(properties);
-        
-//         return em;
-//     }
-    
-//     @Bean
-//     public PlatformTransactionManager transactionManager() {
-//         JpaTransactionManager transactionManager = new JpaTransactionManager();
-//         transactionManager.setEntityManagerFactory(entityManagerFactory().getObject());
-//         return transactionManager;
-//     }
-// }
+        // 실제 커넥션은 첫 쿼리 시점에 가져오도록 해 readOnly 플래그가 라우팅에 반영되게 한다
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
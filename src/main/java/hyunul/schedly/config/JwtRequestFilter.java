@@ -1,21 +1,28 @@
 package hyunul.schedly.config;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import hyunul.schedly.dto.CustomUserPrincipal;
-import hyunul.schedly.entity.User;
 import hyunul.schedly.repository.UserRepository;
 import hyunul.schedly.service.JwtService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,9 +34,33 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
     
+    private static final List<GrantedAuthority> USER_AUTHORITIES =
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+    
     private final JwtService jwtService;
     private final UserRepository userRepository;
     
+    // true면 검증된 토큰 클레임(userId, email, name)으로 사용자 정보를 만든다 (DB 조회 없음)
+    @Value("${jwt.principal.from-claims:true}")
+    private boolean principalFromClaims;
+    
+    @Value("${jwt.principal.cache-max-entries:10000}")
+    private long principalCacheMaxEntries;
+    
+    @Value("${jwt.principal.cache-ttl-seconds:60}")
+    private long principalCacheTtlSeconds;
+    
+    // DB에서 읽은 사용자 정보 (이메일 기준) - 클레임 모드를 끄거나 클레임이 부족한 토큰일 때만 사용
+    private Cache<String, CustomUserPrincipal> principalCache;
+    
+    @PostConstruct
+    void init() {
+        principalCache = Caffeine.newBuilder()
+                .maximumSize(principalCacheMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(principalCacheTtlSeconds))
+                .build();
+    }
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                   FilterChain chain) throws ServletException, IOException {
@@ -44,14 +75,14 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         
         final String requestTokenHeader = request.getHeader("Authorization");
         
-        String email = null;
+        Claims claims = null;
         String jwtToken = null;
         
-        // JWT 토큰은 "Bearer token" 형식
+        // JWT 토큰은 "Bearer token" 형식 (서명/만료는 파싱하면서 검증된다)
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
             jwtToken = requestTokenHeader.substring(7);
             try {
-                email = jwtService.extractEmail(jwtToken);
+                claims = jwtService.extractAllClaims(jwtToken);
             } catch (IllegalArgumentException e) {
                 log.warn("JWT 토큰을 가져올 수 없습니다: {}", e.getMessage());
             } catch (ExpiredJwtException e) {
@@ -62,25 +93,39 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
         
         // 토큰 유효성 검사 및 인증 설정
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null
+                && !jwtService.isTokenBlacklisted(jwtToken, claims)) {
             
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                CustomUserPrincipal userPrincipal = new CustomUserPrincipal(
-                        user.getId(), user.getEmail(), user.getName(),
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
-                
-                if (jwtService.validateToken(jwtToken, userPrincipal)) {
-                    UsernamePasswordAuthenticationToken authToken = 
-                            new UsernamePasswordAuthenticationToken(
-                                    userPrincipal, null, userPrincipal.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+            CustomUserPrincipal userPrincipal = resolvePrincipal(claims);
+            if (userPrincipal != null) {
+                UsernamePasswordAuthenticationToken authToken = 
+                        new UsernamePasswordAuthenticationToken(
+                                userPrincipal, null, userPrincipal.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
         
         chain.doFilter(request, response);
     }
+    
+    private CustomUserPrincipal resolvePrincipal(Claims claims) {
+        String email = claims.getSubject();
+        Long userId = claims.get("userId", Long.class);
+        String name = claims.get("name", String.class);
+        
+        if (principalFromClaims && userId != null && name != null) {
+            return new CustomUserPrincipal(userId, email, name, USER_AUTHORITIES);
+        }
+        // 사용자가 없으면 null (캐시에 남지 않음)
+        return principalCache.get(email, this::loadPrincipal);
+    }
+    
+    private CustomUserPrincipal loadPrincipal(String email) {
+        return userRepository.findByEmail(email)
+                .map(user -> new CustomUserPrincipal(
+                        user.getId(), user.getEmail(), user.getName(), USER_AUTHORITIES))
+                .orElse(null);
+    }
 }
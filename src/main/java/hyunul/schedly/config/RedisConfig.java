@@ -7,8 +7,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 
+import hyunul.schedly.service.RecommendationNearCache;
+import hyunul.schedly.service.TokenRevocationStore;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -37,4 +41,16 @@ public class RedisConfig {
         template.setDefaultSerializer(new GenericJackson2JsonRedisSerializer());
         return template;
     }
+    
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RecommendationNearCache nearCache,
+                                                                       TokenRevocationStore tokenRevocationStore) {
+        // 다른 노드가 보낸 추천 캐시 무효화 메시지를 받아 로컬 L1 캐시에서 제거
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(nearCache, new ChannelTopic(RecommendationNearCache.INVALIDATION_CHANNEL));
+        // 다른 노드에서 폐기한 토큰을 로컬 폐기 목록에 추가
+        container.addMessageListener(tokenRevocationStore, new ChannelTopic(TokenRevocationStore.REVOCATION_CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,125 @@
+package hyunul.schedly.config;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import hyunul.schedly.dto.CustomUserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 원본으로 보내는 라우팅 DataSource
+ * LazyConnectionDataSourceProxy 뒤에 두어야 트랜잭션의 readOnly 플래그가 정해진 뒤(첫 쿼리 시점)에 대상이 결정된다.
+ * 트랜잭션 밖 조회도 원본으로 간다 - 캐시를 채우는 분석 조회는 이 경로를 써서 복제 지연된 값이 캐시에 남지 않게 한다.
+ * 복제 지연 대비: 사용자의 쓰기 트랜잭션이 커밋되면 잠시 동안 그 사용자의 읽기도 원본으로 보낸다 (read-your-writes).
+ * 고정 표식은 Redis에 두어 다음 요청이 다른 노드로 가도 적용되고, 같은 노드에서는 로컬 표식으로 바로 판단한다.
+ * 고정되지 않았다는 확인 결과도 고정 시간보다 훨씬 짧게 로컬에 두어 복제본 읽기마다 Redis를 조회하지 않는다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final String PIN_KEY = "db:read-primary:";
+
+    // 트랜잭션당 한 번만 커밋 후 고정을 등록하기 위한 표식
+    private static final Object PIN_REGISTERED = new Object();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration pinDuration;
+    private final Cache<Long, Boolean> pinnedUsers;
+    private final Cache<Long, Boolean> unpinnedUsers;
+
+    public ReplicationRoutingDataSource(StringRedisTemplate stringRedisTemplate, Duration pinDuration,
+                                        Duration unpinnedCacheDuration) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.pinDuration = pinDuration;
+        this.pinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(pinDuration)
+                .maximumSize(100_000)
+                .build();
+        // 다른 노드에서 방금 고정된 사용자를 이 시간만큼 늦게 알게 되므로 고정 시간보다 훨씬 짧게 둔다
+        this.unpinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(unpinnedCacheDuration)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit(userId);
+            return PRIMARY;
+        }
+        return userId != null && isPinned(userId) ? PRIMARY : REPLICA;
+    }
+
+    private boolean isPinned(Long userId) {
+        if (pinnedUsers.getIfPresent(userId) != null) {
+            return true;
+        }
+        if (unpinnedUsers.getIfPresent(userId) != null) {
+            return false;
+        }
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(PIN_KEY + userId))) {
+                return true;
+            }
+            unpinnedUsers.put(userId, Boolean.TRUE);
+            return false;
+        } catch (Exception e) {
+            // 고정 여부를 모르면 원본에서 읽는다
+            log.warn("읽기 원본 고정 확인 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void pinAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PIN_REGISTERED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PIN_REGISTERED, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PIN_REGISTERED);
+                if (status == STATUS_COMMITTED) {
+                    pin(userId);
+                }
+            }
+        });
+    }
+
+    private void pin(Long userId) {
+        pinnedUsers.put(userId, Boolean.TRUE);
+        unpinnedUsers.invalidate(userId);
+        try {
+            stringRedisTemplate.opsForValue().set(PIN_KEY + userId, "1", pinDuration);
+        } catch (Exception e) {
+            log.warn("읽기 원본 고정 저장 실패: {}", e.getMessage());
+        }
+        log.debug("읽기 원본 고정: userId={}", userId);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
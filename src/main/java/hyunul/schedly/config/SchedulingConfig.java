@@ -0,0 +1,25 @@
+package hyunul.schedly.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    
+    /**
+     * @Scheduled 작업 전용 스케줄러
+     * 명시하지 않으면 ScheduledExecutorService 빈(recommendationWriter)이 대신 쓰여 추천 기록이 정리 작업에 밀린다.
+     */
+    @Bean
+    public TaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2); // 정리 작업이 길어져도 토큰 폐기 목록 동기화는 밀리지 않도록
+        scheduler.setThreadNamePrefix("maintenance-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+}
@@ -1,12 +1,18 @@
 package hyunul.schedly.config;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,10 +20,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import lombok.RequiredArgsConstructor;
+
 @Configuration
 @EnableWebMvc
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AnalysisRateLimitInterceptor analysisRateLimitInterceptor;
+
+    @Value("${schedule.stream.max-concurrent:8}")
+    private int maxConcurrentStreams;
+
+    @Value("${schedule.stream.queue-capacity:8}")
+    private int streamQueueCapacity;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -38,6 +55,39 @@ public class WebConfig implements WebMvcConfigurer {
         converters.add(converter);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 캐시 미스 시 DB 조회가 큰 분석 API만 요청 수 제한
+        registry.addInterceptor(analysisRateLimitInterceptor)
+                .addPathPatterns(
+                        "/api/groups/*/analysis/recommend",
+                        "/api/groups/*/analysis/recommend-range",
+                        "/api/groups/*/analysis/recommendations",
+                        "/api/groups/*/analysis/slot-counters/reconcile");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // 긴 기간 일정 스트리밍 응답이 기본 비동기 타임아웃에 끊기지 않도록
+        configurer.setDefaultTimeout(Duration.ofMinutes(2).toMillis());
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+    }
+
+    /**
+     * StreamingResponseBody 전용 풀 - 스트림마다 DB 커서를 끝까지 잡고 있으므로 동시 스트림 수를 제한하고,
+     * 대기열까지 차면 RejectedExecutionException(503)으로 바로 거절한다 (기본 SimpleAsyncTaskExecutor는 무제한)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentStreams);
+        executor.setMaxPoolSize(maxConcurrentStreams);
+        executor.setQueueCapacity(streamQueueCapacity);
+        executor.setThreadNamePrefix("schedule-stream-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/**")
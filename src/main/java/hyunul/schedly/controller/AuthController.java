@@ -1,8 +1,8 @@
 package hyunul.schedly.controller;
 
-import org.springframework.http.HttpStatus;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -28,29 +28,25 @@ public class AuthController {
     private final AuthService authService;
     
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<AuthResponseDto>> register(
-            @Valid @RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponseDto>>> register(
+            @Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest) {
         
-        try {
-            AuthResponseDto response = authService.register(request);
-            return ResponseEntity.ok(ApiResponse.success("회원가입이 완료되었습니다.", response));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error(e.getMessage()));
-        }
+        return authService.register(request, httpRequest.getRemoteAddr())
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success("회원가입이 완료되었습니다.", response)));
     }
     
+    /**
+     * 비밀번호 확인은 전용 풀에서 수행되고 요청 스레드는 바로 반환된다
+     * (시도 제한 초과 429, 해시 풀 포화 503 - GlobalExceptionHandler)
+     */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponseDto>> login(
-            @Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponseDto>>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
         
-        try {
-            AuthResponseDto response = authService.login(request);
-            return ResponseEntity.ok(ApiResponse.success("로그인이 완료되었습니다.", response));
-        } catch (BadCredentialsException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.error(e.getMessage()));
-        }
+        return authService.login(request, httpRequest.getRemoteAddr())
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success("로그인이 완료되었습니다.", response)));
     }
     
     @PostMapping("/logout")
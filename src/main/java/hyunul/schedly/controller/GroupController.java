@@ -12,16 +12,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import hyunul.schedly.dto.AddMemberRequest;
 import hyunul.schedly.dto.ApiResponse;
 import hyunul.schedly.dto.CreateGroupRequest;
+import hyunul.schedly.dto.CursorPageDto;
 import hyunul.schedly.dto.CustomUserPrincipal;
 import hyunul.schedly.dto.GroupDto;
 import hyunul.schedly.dto.GroupMemberDto;
 import hyunul.schedly.service.GroupService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,11 +50,13 @@ public class GroupController {
     }
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<GroupDto>>> getUserGroups(
+    public ResponseEntity<ApiResponse<CursorPageDto<GroupDto>>> getUserGroups(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
             Authentication authentication) {
         
         Long userId = extractUserId(authentication);
-        List<GroupDto> groups = groupService.getUserGroups(userId);
+        CursorPageDto<GroupDto> groups = groupService.getUserGroups(userId, cursor, size);
         
         return ResponseEntity.ok(ApiResponse.success(groups));
     }
@@ -0,0 +1,83 @@
+package hyunul.schedly.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import hyunul.schedly.dto.ApiResponse;
+import hyunul.schedly.dto.CustomUserPrincipal;
+import hyunul.schedly.dto.RecurringScheduleDto;
+import hyunul.schedly.dto.RecurringScheduleRequest;
+import hyunul.schedly.service.RecurringScheduleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/schedules/recurring")
+@RequiredArgsConstructor @Slf4j
+@CrossOrigin(origins = "*")
+public class RecurringScheduleController {
+    
+    private final RecurringScheduleService recurringScheduleService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<RecurringScheduleDto>> createRecurringSchedule(
+            @Valid @RequestBody RecurringScheduleRequest request,
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        RecurringScheduleDto rule = recurringScheduleService.createRecurringSchedule(userId, request);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("반복 일정이 생성되었습니다.", rule));
+    }
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<RecurringScheduleDto>>> getRecurringSchedules(
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        List<RecurringScheduleDto> rules = recurringScheduleService.getRecurringSchedules(userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(rules));
+    }
+    
+    @PutMapping("/{ruleId}")
+    public ResponseEntity<ApiResponse<RecurringScheduleDto>> updateRecurringSchedule(
+            @PathVariable Long ruleId,
+            @Valid @RequestBody RecurringScheduleRequest request,
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        RecurringScheduleDto rule = recurringScheduleService.updateRecurringSchedule(ruleId, userId, request);
+        
+        return ResponseEntity.ok(ApiResponse.success("반복 일정이 수정되었습니다.", rule));
+    }
+    
+    @DeleteMapping("/{ruleId}")
+    public ResponseEntity<ApiResponse<Void>> deleteRecurringSchedule(
+            @PathVariable Long ruleId,
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        recurringScheduleService.deleteRecurringSchedule(ruleId, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("반복 일정이 삭제되었습니다.", null));
+    }
+    
+    private Long extractUserId(Authentication authentication) {
+        return ((CustomUserPrincipal) authentication.getPrincipal()).getUserId();
+    }
+}
@@ -1,10 +1,10 @@
 package hyunul.schedly.controller;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -17,16 +17,21 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import hyunul.schedly.dto.AnalyzeScheduleRangeRequest;
 import hyunul.schedly.dto.AnalyzeScheduleRequest;
 import hyunul.schedly.dto.ApiResponse;
 import hyunul.schedly.dto.CustomUserPrincipal;
-import hyunul.schedly.dto.GroupDto;
-import hyunul.schedly.dto.GroupMemberDto;
 import hyunul.schedly.dto.ScheduleAnalysisResultDto;
+import hyunul.schedly.dto.ScheduleRangeAnalysisResultDto;
 import hyunul.schedly.dto.ScheduleRecommendationDto;
+import hyunul.schedly.dto.SlotCounterReconcileResultDto;
+import hyunul.schedly.service.AnalysisRateLimiter;
 import hyunul.schedly.service.GroupService;
 import hyunul.schedly.service.ScheduleAnalysisService;
+import hyunul.schedly.service.SlotCounterService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,6 +43,8 @@ public class ScheduleAnalysisController {
     
     private final ScheduleAnalysisService scheduleAnalysisService;
     private final GroupService groupService;
+    private final SlotCounterService slotCounterService;
+    private final AnalysisRateLimiter analysisRateLimiter;
     
     @PostMapping("/recommend")
     public ResponseEntity<ApiResponse<ScheduleAnalysisResultDto>> analyzeSchedule(
@@ -47,54 +54,62 @@ public class ScheduleAnalysisController {
         
         Long userId = extractUserId(authentication);
         
-        // 그룹 접근 권한 확인
+        // 그룹/멤버 조회, 접근 권한 확인, 일정 분석을 한 번에 수행
+        ScheduleAnalysisResultDto result = scheduleAnalysisService
+                .analyzeGroupSchedule(groupId, userId, request);
+        
+        return ResponseEntity.ok(ApiResponse.success("일정 분석이 완료되었습니다.", result));
+    }
+    
+    @PostMapping("/recommend-range")
+    public ResponseEntity<ApiResponse<ScheduleRangeAnalysisResultDto>> analyzeScheduleRange(
+            @PathVariable Long groupId,
+            @Valid @RequestBody AnalyzeScheduleRangeRequest request,
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        
+        // 그룹 접근 권한 확인 후 그룹 요청 한도 차감
         groupService.getGroup(groupId, userId);
+        analysisRateLimiter.acquireGroup(groupId);
         
-        // 일정 분석 수행
-        Duration desiredDuration = Duration.ofMinutes(request.getDurationMinutes());
-        List<ScheduleRecommendationDto> recommendations = scheduleAnalysisService
-                .analyzeAndRecommendSchedule(groupId, request.getTargetDate(), desiredDuration);
-        
-        // 그룹 정보 및 멤버 정보 조회
-        GroupDto group = groupService.getGroup(groupId, userId);
-        List<GroupMemberDto> members = groupService.getGroupMembers(groupId, userId);
-        
-        // 결과 구성
-        ScheduleAnalysisResultDto result = ScheduleAnalysisResultDto.builder()
-                .groupId(groupId)
-                .groupName(group.getName())
-                .targetDate(request.getTargetDate())
-                .totalMembers(members.size())
-                .recommendations(recommendations)
-                .members(members)
-                .metadata(ScheduleAnalysisResultDto.AnalysisMetadata.builder()
-                        .analyzedAt(LocalDateTime.now())
-                        .requestedDurationMinutes(request.getDurationMinutes())
-                        .searchStartTime(request.getPreferredStartTime())
-                        .searchEndTime(request.getPreferredEndTime())
-                        .fromCache(false) // 실제로는 서비스에서 캐시 여부를 전달받아야 함
-                        .build())
-                .build();
+        ScheduleRangeAnalysisResultDto result = scheduleAnalysisService.analyzeDateRange(groupId, request);
         
-        return ResponseEntity.ok(ApiResponse.success("일정 분석이 완료되었습니다.", result));
+        return ResponseEntity.ok(ApiResponse.success("기간 일정 분석이 완료되었습니다.", result));
     }
     
     @GetMapping("/recommendations")
     public ResponseEntity<ApiResponse<List<ScheduleRecommendationDto>>> getRecommendations(
             @PathVariable Long groupId,
             @RequestParam LocalDate targetDate,
-            @RequestParam(defaultValue = "60") Integer durationMinutes,
+            @RequestParam(defaultValue = "60") @Min(1) Integer durationMinutes,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) Integer limit,
+            @RequestParam(defaultValue = "09:00") @DateTimeFormat(pattern = "HH:mm") LocalTime preferredStartTime,
+            @RequestParam(defaultValue = "18:00") @DateTimeFormat(pattern = "HH:mm") LocalTime preferredEndTime,
+            @RequestParam(defaultValue = "SLOT") AnalyzeScheduleRequest.AnalysisMode mode,
             Authentication authentication) {
         
         Long userId = extractUserId(authentication);
         
-        // 그룹 접근 권한 확인
+        // 그룹 접근 권한 확인 후 그룹 요청 한도 차감
         groupService.getGroup(groupId, userId);
+        analysisRateLimiter.acquireGroup(groupId);
+        
+        if (!preferredEndTime.isAfter(preferredStartTime)) {
+            throw new IllegalArgumentException("검색 종료 시간은 시작 시간보다 늦어야 합니다.");
+        }
         
         // 캐시된 추천 결과 조회
-        Duration desiredDuration = Duration.ofMinutes(durationMinutes);
+        AnalyzeScheduleRequest request = AnalyzeScheduleRequest.builder()
+                .targetDate(targetDate)
+                .durationMinutes(durationMinutes)
+                .preferredStartTime(preferredStartTime)
+                .preferredEndTime(preferredEndTime)
+                .maxRecommendations(limit)
+                .mode(mode)
+                .build();
         List<ScheduleRecommendationDto> recommendations = scheduleAnalysisService
-                .analyzeAndRecommendSchedule(groupId, targetDate, desiredDuration);
+                .analyzeAndRecommendSchedule(groupId, request);
         
         return ResponseEntity.ok(ApiResponse.success(recommendations));
     }
@@ -115,6 +130,26 @@ public class ScheduleAnalysisController {
         return ResponseEntity.ok(ApiResponse.success("캐시가 삭제되었습니다.", null));
     }
     
+    @PostMapping("/slot-counters/reconcile")
+    public ResponseEntity<ApiResponse<List<SlotCounterReconcileResultDto>>> reconcileSlotCounters(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) LocalDate targetDate,
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        
+        // 그룹 전체를 다시 계산할 수 있으므로 소유자/관리자만, 그룹 요청 한도 차감 후 수행
+        groupService.checkManager(groupId, userId);
+        analysisRateLimiter.acquireGroup(groupId);
+        
+        // 날짜를 지정하지 않으면 카운터가 있는 모든 날짜를 DB 기준으로 점검
+        List<SlotCounterReconcileResultDto> results = targetDate != null
+                ? List.of(slotCounterService.reconcile(groupId, targetDate))
+                : slotCounterService.reconcileGroup(groupId);
+        
+        return ResponseEntity.ok(ApiResponse.success("슬롯 카운터 점검이 완료되었습니다.", results));
+    }
+    
     private Long extractUserId(Authentication authentication) {
         return ((CustomUserPrincipal) authentication.getPrincipal()).getUserId();
     }
@@ -1,9 +1,9 @@
 package hyunul.schedly.controller;
 
 import java.time.LocalDate;
-import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -16,14 +16,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import hyunul.schedly.dto.ApiResponse;
+import hyunul.schedly.dto.BulkScheduleRequest;
+import hyunul.schedly.dto.BulkScheduleResultDto;
 import hyunul.schedly.dto.CreateScheduleRequest;
+import hyunul.schedly.dto.CursorPageDto;
 import hyunul.schedly.dto.CustomUserPrincipal;
 import hyunul.schedly.dto.UpdateScheduleRequest;
 import hyunul.schedly.dto.UserScheduleDto;
 import hyunul.schedly.service.UserScheduleService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -48,18 +54,40 @@ public class UserScheduleController {
     }
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserScheduleDto>>> getUserSchedules(
+    public ResponseEntity<ApiResponse<CursorPageDto<UserScheduleDto>>> getUserSchedules(
             @RequestParam LocalDate startDate,
             @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(500) Integer size,
             Authentication authentication) {
         
         Long userId = extractUserId(authentication);
-        List<UserScheduleDto> schedules = userScheduleService
-                .getUserSchedules(userId, startDate, endDate);
+        validateRange(startDate, endDate);
+        CursorPageDto<UserScheduleDto> schedules = userScheduleService
+                .getUserSchedules(userId, startDate, endDate, cursor, size);
         
         return ResponseEntity.ok(ApiResponse.success(schedules));
     }
     
+    /**
+     * 기간 전체를 페이지 없이 한 응답으로 받되, 서버는 읽는 대로 JSON을 흘려보낸다 (긴 기간 조회용)
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamUserSchedules(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        validateRange(startDate, endDate);
+        StreamingResponseBody body = out -> userScheduleService
+                .streamUserSchedules(userId, startDate, endDate, out);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
     @PutMapping("/{scheduleId}")
     public ResponseEntity<ApiResponse<UserScheduleDto>> updateSchedule(
             @PathVariable Long scheduleId,
@@ -83,6 +111,23 @@ public class UserScheduleController {
         return ResponseEntity.ok(ApiResponse.success("일정이 삭제되었습니다.", null));
     }
     
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkScheduleResultDto>> applyBulk(
+            @Valid @RequestBody BulkScheduleRequest request,
+            Authentication authentication) {
+        
+        Long userId = extractUserId(authentication);
+        BulkScheduleResultDto result = userScheduleService.applyBulk(userId, request);
+        
+        return ResponseEntity.ok(ApiResponse.success("일정이 일괄 처리되었습니다.", result));
+    }
+    
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 빠를 수 없습니다.");
+        }
+    }
+    
     private Long extractUserId(Authentication authentication) {
         return ((CustomUserPrincipal) authentication.getPrincipal()).getUserId();
     }
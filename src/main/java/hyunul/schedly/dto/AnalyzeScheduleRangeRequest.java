@@ -0,0 +1,72 @@
+package hyunul.schedly.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class AnalyzeScheduleRangeRequest {
+    public static final int MAX_RANGE_DAYS = 31;
+    
+    @NotNull
+    private LocalDate startDate;
+    
+    @NotNull
+    private LocalDate endDate;
+    
+    @NotNull @Min(1)
+    @Builder.Default
+    private Integer durationMinutes = 60; // 기본 1시간
+    
+    @NotNull
+    @Builder.Default
+    private LocalTime preferredStartTime = LocalTime.of(9, 0);
+    
+    @NotNull
+    @Builder.Default
+    private LocalTime preferredEndTime = LocalTime.of(18, 0);
+    
+    @NotNull @Min(1) @Max(50)
+    @Builder.Default
+    private Integer maxRecommendations = 10; // 날짜별 추천 결과 최대 개수
+    
+    @NotNull
+    @Builder.Default
+    private AnalyzeScheduleRequest.AnalysisMode mode = AnalyzeScheduleRequest.AnalysisMode.SLOT;
+    
+    @AssertTrue(message = "조회 기간은 시작일부터 최대 31일까지 가능합니다.")
+    public boolean isValidDateRange() {
+        return startDate == null || endDate == null
+                || (!endDate.isBefore(startDate)
+                    && ChronoUnit.DAYS.between(startDate, endDate) < MAX_RANGE_DAYS);
+    }
+    
+    @AssertTrue(message = "검색 종료 시간은 시작 시간보다 늦어야 합니다.")
+    public boolean isValidSearchRange() {
+        return preferredStartTime == null || preferredEndTime == null
+                || preferredEndTime.isAfter(preferredStartTime);
+    }
+    
+    /**
+     * 기간 요청을 특정 날짜의 단일 분석 요청으로 변환
+     */
+    public AnalyzeScheduleRequest toDailyRequest(LocalDate date) {
+        return AnalyzeScheduleRequest.builder()
+                .targetDate(date)
+                .durationMinutes(durationMinutes)
+                .preferredStartTime(preferredStartTime)
+                .preferredEndTime(preferredEndTime)
+                .maxRecommendations(maxRecommendations)
+                .mode(mode)
+                .build();
+    }
+}
@@ -3,6 +3,9 @@ package hyunul.schedly.dto;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,12 +17,34 @@ public class AnalyzeScheduleRequest {
     @NotNull
     private LocalDate targetDate;
     
+    @NotNull @Min(1)
     @Builder.Default
     private Integer durationMinutes = 60; // 기본 1시간
     
+    @NotNull
     @Builder.Default
     private LocalTime preferredStartTime = LocalTime.of(9, 0);
     
+    @NotNull
     @Builder.Default
     private LocalTime preferredEndTime = LocalTime.of(18, 0);
+    
+    @NotNull @Min(1) @Max(50)
+    @Builder.Default
+    private Integer maxRecommendations = 10; // 추천 결과 최대 개수
+    
+    @NotNull
+    @Builder.Default
+    private AnalysisMode mode = AnalysisMode.SLOT;
+    
+    @AssertTrue(message = "검색 종료 시간은 시작 시간보다 늦어야 합니다.")
+    public boolean isValidSearchRange() {
+        return preferredStartTime == null || preferredEndTime == null
+                || preferredEndTime.isAfter(preferredStartTime);
+    }
+    
+    public enum AnalysisMode {
+        SLOT,  // 30분 슬롯 단위 분석
+        EXACT  // 일정 경계 기준 초 단위 분석
+    }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package hyunul.schedly.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹/날짜별 가용성 프로필
+ * 멤버별로 병합한 바쁜 구간을 초 단위로 보관하므로 회의 길이, 검색 시간대, 슬롯 격자와 무관하게
+ * DB 조회 없이 슬롯별 가용 인원을 다시 계산할 수 있다.
+ */
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class AvailabilityProfile {
+    private LocalDate date;
+    private int totalMembers;
+    
+    // 구간 i = 멤버 memberIndexes[i] 의 [startSeconds[i], endSeconds[i])
+    private int[] memberIndexes;
+    private int[] startSeconds;
+    private int[] endSeconds;
+}
@@ -0,0 +1,47 @@
+package hyunul.schedly.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class BulkScheduleRequest {
+    public static final int MAX_OPERATIONS = 1000;
+    
+    @Valid
+    @Builder.Default
+    private List<CreateScheduleRequest> create = new ArrayList<>();
+    
+    @Valid
+    @Builder.Default
+    private List<UpdateItem> update = new ArrayList<>();
+    
+    @Builder.Default
+    private List<Long> delete = new ArrayList<>();
+    
+    @AssertTrue(message = "한 번에 처리할 수 있는 일정 작업은 최대 " + MAX_OPERATIONS + "개입니다.")
+    public boolean isWithinLimit() {
+        return size(create) + size(update) + size(delete) <= MAX_OPERATIONS;
+    }
+    
+    private static int size(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+    
+    @Data @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class UpdateItem {
+        @NotNull
+        private Long id;
+        
+        @NotNull
+        @Valid
+        private UpdateScheduleRequest changes;
+    }
+}
@@ -0,0 +1,15 @@
+package hyunul.schedly.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class BulkScheduleResultDto {
+    private List<UserScheduleDto> created;
+    private List<UserScheduleDto> updated;
+    private int deleted;
+}
@@ -0,0 +1,18 @@
+package hyunul.schedly.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키셋(커서) 페이지 - 다음 페이지는 nextCursor를 cursor로 넘겨 조회한다
+ */
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,14 @@
+package hyunul.schedly.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class GroupDetailDto {
+    private GroupDto group;
+    private List<GroupMemberDto> members;
+}
@@ -16,5 +16,5 @@ public class GroupDto {
     private String ownerName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private Integer memberCount;
+    private Long memberCount;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package hyunul.schedly.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+
+import hyunul.schedly.entity.RecurringSchedule;
+import hyunul.schedly.entity.UserSchedule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class RecurringScheduleDto {
+    private Long id;
+    private Long userId;
+    private RecurringSchedule.Frequency frequency;
+    private int repeatInterval;
+    private LocalDate startDate;
+    private LocalDate untilDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String title;
+    private String description;
+    private UserSchedule.ScheduleType type;
+    private Set<LocalDate> exceptionDates;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
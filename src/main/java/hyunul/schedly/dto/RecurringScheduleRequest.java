@@ -0,0 +1,52 @@
+package hyunul.schedly.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+import hyunul.schedly.entity.RecurringSchedule;
+import hyunul.schedly.entity.UserSchedule;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class RecurringScheduleRequest {
+    @NotNull
+    private RecurringSchedule.Frequency frequency;
+    
+    @Min(1) @Max(52)
+    @Builder.Default
+    private int repeatInterval = 1;
+    
+    @NotNull
+    private LocalDate startDate;
+    
+    private LocalDate untilDate;
+    
+    @NotNull
+    private LocalTime startTime;
+    
+    @NotNull
+    private LocalTime endTime;
+    
+    private String title;
+    private String description;
+    private UserSchedule.ScheduleType type;
+    private Set<LocalDate> exceptionDates;
+    
+    @AssertTrue(message = "종료 시간은 시작 시간보다 늦어야 합니다.")
+    public boolean isValidTimeRange() {
+        return startTime == null || endTime == null || endTime.isAfter(startTime);
+    }
+    
+    @AssertTrue(message = "반복 종료일은 시작일보다 빠를 수 없습니다.")
+    public boolean isValidDateRange() {
+        return startDate == null || untilDate == null || !untilDate.isBefore(startDate);
+    }
+}
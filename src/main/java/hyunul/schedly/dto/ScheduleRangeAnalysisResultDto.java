@@ -0,0 +1,27 @@
+package hyunul.schedly.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class ScheduleRangeAnalysisResultDto {
+    private Long groupId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer totalMembers;
+    private List<DailyRecommendation> days;
+    private LocalDateTime analyzedAt;
+    
+    @Data @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class DailyRecommendation {
+        private LocalDate date;
+        private List<ScheduleRecommendationDto> recommendations;
+        private Boolean fromCache;
+    }
+}
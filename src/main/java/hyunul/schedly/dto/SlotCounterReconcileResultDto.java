@@ -0,0 +1,17 @@
+package hyunul.schedly.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class SlotCounterReconcileResultDto {
+    private Long groupId;
+    private LocalDate date;
+    private boolean existed;       // 점검 전 카운터 존재 여부
+    private int mismatchedFields;  // DB 기준과 다른 필드 수 (멤버 수 포함)
+    private boolean repaired;      // DB 기준으로 다시 기록했는지 여부
+}
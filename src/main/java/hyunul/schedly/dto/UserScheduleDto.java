@@ -20,6 +20,8 @@ public class UserScheduleDto {
     private String title;
     private String description;
     private UserSchedule.ScheduleType type;
+    // 반복 일정에서 펼쳐진 발생분이면 규칙 ID (이때 id는 null)
+    private Long recurringScheduleId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
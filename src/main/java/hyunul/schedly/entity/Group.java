@@ -4,9 +4,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -26,6 +29,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "tb_groups")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "group")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class Group {
@@ -2,8 +2,11 @@ package hyunul.schedly.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -11,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +25,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "tb_group_members")
+@Table(name = "tb_group_members", indexes = {
+    @Index(name = "idx_group_member_group_user", columnList = "group_id, user_id"),
+    // 사용자별 소속 그룹 목록을 그룹 ID 역순으로 범위 조회 (그룹 목록 키셋 페이지)
+    @Index(name = "idx_group_member_user_group", columnList = "user_id, group_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "group-member")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class GroupMember {
@@ -0,0 +1,41 @@
+package hyunul.schedly.entity;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 날짜 집합 <-> "2025-01-01,2025-01-08" 형태의 문자열 컬럼 변환
+ */
+@Converter
+public class LocalDateSetConverter implements AttributeConverter<Set<LocalDate>, String> {
+    
+    @Override
+    public String convertToDatabaseColumn(Set<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return null;
+        }
+        return new TreeSet<>(dates).stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(","));
+    }
+    
+    @Override
+    public Set<LocalDate> convertToEntityAttribute(String column) {
+        Set<LocalDate> dates = new TreeSet<>();
+        if (column == null || column.isBlank()) {
+            return dates;
+        }
+        Arrays.stream(column.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(LocalDate::parse)
+                .forEach(dates::add);
+        return dates;
+    }
+}
@@ -0,0 +1,139 @@
+package hyunul.schedly.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 반복 일정 규칙 - 발생일마다 행을 만들지 않고 규칙 한 행만 저장하며, 조회/분석 시 필요한 날짜만 펼친다
+ * 주간 반복은 시작일의 요일, 월간 반복은 시작일의 일자를 따른다 (해당 일자가 없는 달은 건너뜀).
+ */
+@Entity
+@Table(name = "tb_recurring_schedules", indexes = {
+    // 사용자별로 기간 [start_date, until_date]가 조회 범위와 겹치는 규칙만 찾도록 구성
+    @Index(name = "idx_recurring_schedule_user_range", columnList = "user_id, start_date, until_date")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+@Builder
+public class RecurringSchedule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Frequency frequency;
+    
+    // 반복 간격 (2 = 격주/격월 등)
+    @Column(name = "repeat_interval", nullable = false)
+    @Builder.Default
+    private int repeatInterval = 1;
+    
+    @Column(nullable = false)
+    private LocalDate startDate;
+    
+    // null 이면 종료일 없음
+    private LocalDate untilDate;
+    
+    @Column(nullable = false)
+    private LocalTime startTime;
+    
+    @Column(nullable = false)
+    private LocalTime endTime;
+    
+    private String title;
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private UserSchedule.ScheduleType type = UserSchedule.ScheduleType.BUSY;
+    
+    // 반복에서 제외할 날짜
+    @Convert(converter = LocalDateSetConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @Builder.Default
+    private Set<LocalDate> exceptionDates = new TreeSet<>();
+    
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+    
+    /**
+     * [from, to] 범위 안의 발생일 목록 (제외 날짜 제외, 날짜순)
+     * 범위 시작 직전 발생일로 바로 건너뛰므로 비용은 범위 안 발생 횟수에만 비례한다.
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+        LocalDate last = untilDate != null && untilDate.isBefore(to) ? untilDate : to;
+        List<LocalDate> dates = new ArrayList<>();
+        if (last.isBefore(from) || last.isBefore(startDate)) {
+            return dates;
+        }
+        int interval = Math.max(1, repeatInterval);
+        if (frequency == Frequency.MONTHLY) {
+            LocalDate firstMonth = startDate.withDayOfMonth(1);
+            long skipped = Math.max(0, ChronoUnit.MONTHS.between(firstMonth, from.withDayOfMonth(1)));
+            for (long months = (skipped + interval - 1) / interval * interval; ; months += interval) {
+                LocalDate month = firstMonth.plusMonths(months);
+                if (month.isAfter(last)) {
+                    break;
+                }
+                if (startDate.getDayOfMonth() > month.lengthOfMonth()) {
+                    continue;
+                }
+                addOccurrence(dates, month.withDayOfMonth(startDate.getDayOfMonth()), from, last);
+            }
+            return dates;
+        }
+        long step = frequency == Frequency.WEEKLY ? 7L * interval : interval;
+        long skipped = Math.max(0, ChronoUnit.DAYS.between(startDate, from));
+        for (LocalDate date = startDate.plusDays((skipped + step - 1) / step * step);
+                !date.isAfter(last); date = date.plusDays(step)) {
+            addOccurrence(dates, date, from, last);
+        }
+        return dates;
+    }
+    
+    private void addOccurrence(List<LocalDate> dates, LocalDate date, LocalDate from, LocalDate last) {
+        if (!date.isBefore(from) && !date.isAfter(last)
+                && (exceptionDates == null || !exceptionDates.contains(date))) {
+            dates.add(date);
+        }
+    }
+    
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "tb_schedule_recommendations")
+@Table(name = "tb_schedule_recommendations", indexes = {
+    @Index(name = "idx_recommendation_group_date", columnList = "group_id, target_date"),
+    // 보존 작업이 지난 날짜의 추천만 범위로 지우도록
+    @Index(name = "idx_recommendation_target_date", columnList = "target_date")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class ScheduleRecommendation {
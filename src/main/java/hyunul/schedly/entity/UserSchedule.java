@@ -15,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "tb_user_schedules")
+@Table(name = "tb_user_schedules", indexes = {
+    // 분석 조회(날짜/유형/사용자 조건 + 시작/종료)가 인덱스만으로 끝나도록 커버링 인덱스 구성
+    @Index(name = "idx_user_schedule_date_type_user", columnList = "date, type, user_id, start_time, end_time"),
+    // 사용자별 기간 조회를 (date, start_time, id) 순서 그대로 읽도록 구성 (키셋 페이지/스트리밍)
+    @Index(name = "idx_user_schedule_user_date_time", columnList = "user_id, date, start_time")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class UserSchedule {
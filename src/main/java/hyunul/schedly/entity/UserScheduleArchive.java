@@ -0,0 +1,57 @@
+package hyunul.schedly.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 보존 기간이 지난 일정 보관 테이블 (ScheduleRetentionService가 tb_user_schedules에서 옮겨 온다)
+ * 원본 ID를 그대로 쓰며, 조회/분석 경로에서는 읽지 않는다.
+ */
+@Entity
+@Table(name = "tb_user_schedules_archive", indexes = {
+    @Index(name = "idx_user_schedule_archive_user_date", columnList = "user_id, date")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+@Builder
+public class UserScheduleArchive {
+    @Id
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(nullable = false)
+    private LocalDate date;
+    
+    @Column(nullable = false)
+    private LocalTime startTime;
+    
+    @Column(nullable = false)
+    private LocalTime endTime;
+    
+    private String title;
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    private UserSchedule.ScheduleType type;
+    
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -21,8 +21,14 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     @Query("SELECT gm.user FROM GroupMember gm WHERE gm.group.id = :groupId")
     List<User> findUsersByGroupId(@Param("groupId") Long groupId);
     
+    @Query("SELECT gm.group.id FROM GroupMember gm WHERE gm.user.id = :userId")
+    List<Long> findGroupIdsByUserId(@Param("userId") Long userId);
+    
+    // 권한 확인용 - 노드별 2차 캐시는 다른 노드의 멤버 변경을 바로 반영하지 못하므로 쿼리 캐시를 쓰지 않는다
     boolean existsByGroupIdAndUserId(Long groupId, Long userId);
     
+    long countByGroupId(Long groupId);
+    
     @Modifying
     @Query("DELETE FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.user.id = :userId")
     void deleteByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
@@ -1,12 +1,15 @@
 package hyunul.schedly.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import hyunul.schedly.dto.GroupDto;
 import hyunul.schedly.entity.Group;
 
 @Repository
@@ -15,4 +18,21 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     
     @Query("SELECT g FROM Group g JOIN g.members m WHERE m.user.id = :userId")
     List<Group> findGroupsByMemberId(@Param("userId") Long userId);
+    
+    // 목록용 DTO 프로젝션 - 소유자 이름과 멤버 수를 함께 읽고, afterId보다 작은 그룹 ID만 (키셋 페이지)
+    @Query("SELECT new hyunul.schedly.dto.GroupDto(g.id, g.name, g.description, o.id, o.name, " +
+           "g.createdAt, g.updatedAt, (SELECT COUNT(cm) FROM GroupMember cm WHERE cm.group = g)) " +
+           "FROM GroupMember m JOIN m.group g JOIN g.owner o " +
+           "WHERE m.user.id = :userId AND (:afterId IS NULL OR g.id < :afterId) " +
+           "ORDER BY g.id DESC")
+    List<GroupDto> findGroupSummariesByMemberId(
+            @Param("userId") Long userId,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+    
+    // 그룹, 소유자, 멤버와 멤버의 사용자 정보를 쿼리 한 번으로 조회
+    @Query("SELECT g FROM Group g JOIN FETCH g.owner " +
+           "LEFT JOIN FETCH g.members m LEFT JOIN FETCH m.user " +
+           "WHERE g.id = :groupId")
+    Optional<Group> findWithOwnerAndMembersById(@Param("groupId") Long groupId);
 }
\ No newline at end of file
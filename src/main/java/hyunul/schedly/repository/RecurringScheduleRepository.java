@@ -0,0 +1,25 @@
+package hyunul.schedly.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import hyunul.schedly.entity.RecurringSchedule;
+
+@Repository
+public interface RecurringScheduleRepository extends JpaRepository<RecurringSchedule, Long> {
+    List<RecurringSchedule> findByUserIdOrderByStartDate(Long userId);
+    
+    // 기간이 [startDate, endDate]와 겹치는 규칙 (idx_recurring_schedule_user_range 범위 조회)
+    @Query("SELECT rs FROM RecurringSchedule rs WHERE rs.user.id = :userId " +
+           "AND rs.startDate <= :endDate " +
+           "AND (rs.untilDate IS NULL OR rs.untilDate >= :startDate)")
+    List<RecurringSchedule> findActiveBetween(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,108 @@
+package hyunul.schedly.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import hyunul.schedly.entity.LocalDateSetConverter;
+import hyunul.schedly.entity.RecurringSchedule;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분석용 바쁜 구간 조회 전용 리포지토리
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 (사용자, 날짜, 시작, 종료)만 읽어 콜백으로 바로 넘긴다.
+ * 일정 쪽은 tb_user_schedules (date, type, user_id, start_time, end_time) 인덱스만으로 응답된다.
+ * 반복 일정은 기간이 겹치는 규칙만 (user_id, start_date, until_date) 인덱스로 찾아 조회 기간 안의 발생일만 펼친다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleIntervalRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${schedule.analysis.fetch-size:500}")
+    private int fetchSize;
+    
+    // 멤버 목록과 바쁜 구간을 한 번에 - 일정이 없는 멤버도 날짜가 NULL인 행으로 한 번 나온다
+    private static final String GROUP_BUSY_INTERVALS_SQL =
+            "SELECT gm.user_id, us.date, us.start_time, us.end_time FROM tb_group_members gm "
+            + "LEFT JOIN tb_user_schedules us ON us.user_id = gm.user_id "
+            + "AND us.date BETWEEN ? AND ? AND us.type = 'BUSY' "
+            + "WHERE gm.group_id = ? "
+            + "ORDER BY gm.user_id";
+    
+    private static final String GROUP_RECURRING_RULES_SQL =
+            "SELECT gm.user_id, rs.frequency, rs.repeat_interval, rs.start_date, rs.until_date, "
+            + "rs.start_time, rs.end_time, rs.exception_dates FROM tb_group_members gm "
+            + "JOIN tb_recurring_schedules rs ON rs.user_id = gm.user_id "
+            + "AND rs.start_date <= ? AND (rs.until_date IS NULL OR rs.until_date >= ?) AND rs.type = 'BUSY' "
+            + "WHERE gm.group_id = ?";
+    
+    private final LocalDateSetConverter dateSetConverter = new LocalDateSetConverter();
+    
+    @FunctionalInterface
+    public interface GroupIntervalHandler {
+        /**
+         * 멤버별로 묶여(user_id 순) 전달되며, 일정이 없는 멤버는 date가 null인 한 번의 호출로 전달된다
+         * 반복 일정의 발생 구간은 모든 멤버가 전달된 뒤에 이어서 전달된다
+         * 종료 초는 소수 초가 있으면 올림한 값 (LocalTime 비교와 같은 결과가 되도록)
+         */
+        void accept(long userId, LocalDate date, int startSecond, int endSecond);
+    }
+    
+    /**
+     * 그룹 멤버와 멤버들의 기간 내 BUSY 구간을 조회해 handler로 전달 - 쿼리 두 번
+     * (멤버 + 단건 일정 조인 한 번, 멤버 + 반복 규칙 조인 한 번. 열 구성이 달라 합치지 않고,
+     * 단건 쪽이 (group_id, user_id) 인덱스 순서대로 정렬 없이 흘러나오게 둔다)
+     * 두 쿼리 모두 IN 목록 없이 그룹 ID로만 조회하므로 그룹 크기와 무관하게 같은 실행 계획을 쓰고,
+     * 단건 일정은 fetch size 단위로 읽어 결과 전체를 메모리에 올리지 않는다.
+     */
+    public void forEachGroupBusyInterval(Long groupId, LocalDate startDate, LocalDate endDate,
+                                         GroupIntervalHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(GROUP_BUSY_INTERVALS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, startDate);
+            statement.setObject(2, endDate);
+            statement.setLong(3, groupId);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            LocalDate date = rs.getObject(2, LocalDate.class);
+            if (date == null) {
+                handler.accept(rs.getLong(1), null, 0, 0);
+                return;
+            }
+            LocalTime start = rs.getObject(3, LocalTime.class);
+            LocalTime end = rs.getObject(4, LocalTime.class);
+            handler.accept(rs.getLong(1), date, start.toSecondOfDay(), endSecond(end));
+        });
+        
+        // 반복 규칙은 행 하나를 조회 기간 안의 발생일로만 펼쳐 전달
+        jdbcTemplate.query(GROUP_RECURRING_RULES_SQL, (RowCallbackHandler) rs -> {
+            RecurringSchedule rule = RecurringSchedule.builder()
+                    .frequency(RecurringSchedule.Frequency.valueOf(rs.getString(2)))
+                    .repeatInterval(rs.getInt(3))
+                    .startDate(rs.getObject(4, LocalDate.class))
+                    .untilDate(rs.getObject(5, LocalDate.class))
+                    .exceptionDates(dateSetConverter.convertToEntityAttribute(rs.getString(8)))
+                    .build();
+            long userId = rs.getLong(1);
+            int startSecond = rs.getObject(6, LocalTime.class).toSecondOfDay();
+            int endSecond = endSecond(rs.getObject(7, LocalTime.class));
+            for (LocalDate date : rule.occurrencesBetween(startDate, endDate)) {
+                handler.accept(userId, date, startSecond, endSecond);
+            }
+        }, endDate, startDate, groupId);
+    }
+    
+    private static int endSecond(LocalTime end) {
+        return end.toSecondOfDay() + (end.getNano() > 0 ? 1 : 0);
+    }
+}
@@ -2,13 +2,29 @@ package hyunul.schedly.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import hyunul.schedly.entity.User;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 요청마다 인증 필터가 호출 - 쿼리 캐시 (tb_users 변경 시 Hibernate가 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+    
     boolean existsByEmail(String email);
+    
+    // 로그인 시 해시 비용 갱신용 - 요청 트랜잭션 밖(해시 풀)에서 호출된다
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package hyunul.schedly.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import hyunul.schedly.entity.UserSchedule;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정 대량 INSERT 전용 리포지토리
+ * IDENTITY 키 엔티티는 Hibernate가 INSERT를 묶지 못하므로 JDBC 배치로 한 번에 보내고
+ * (rewriteBatchedStatements로 다중 행 INSERT가 된다) 생성된 키를 엔티티에 다시 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserScheduleBatchRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO tb_user_schedules (user_id, date, start_time, end_time, title, description, type, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    /**
+     * 저장되지 않은 일정들을 배치로 INSERT 하고 id/생성 시각을 채운다
+     */
+    public void insertAll(List<UserSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserSchedule schedule = schedules.get(i);
+                        ps.setLong(1, schedule.getUser().getId());
+                        ps.setDate(2, Date.valueOf(schedule.getDate()));
+                        ps.setTime(3, Time.valueOf(schedule.getStartTime()));
+                        ps.setTime(4, Time.valueOf(schedule.getEndTime()));
+                        ps.setString(5, schedule.getTitle());
+                        ps.setString(6, schedule.getDescription());
+                        ps.setString(7, schedule.getType().name());
+                        ps.setTimestamp(8, timestamp);
+                        ps.setTimestamp(9, timestamp);
+                    }
+                    
+                    @Override
+                    public int getBatchSize() {
+                        return schedules.size();
+                    }
+                },
+                keyHolder);
+        
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < schedules.size(); i++) {
+            UserSchedule schedule = schedules.get(i);
+            schedule.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            schedule.setCreatedAt(now);
+            schedule.setUpdatedAt(now);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +17,21 @@ public interface UserScheduleRepository extends JpaRepository<UserSchedule, Long
     List<UserSchedule> findByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
     List<UserSchedule> findByUserIdAndDate(Long userId, LocalDate date);
     
+    // (date, startTime, id)가 커서 이후인 일정 (키셋 페이지, idx_user_schedule_user_date_time 순서)
+    @Query("SELECT us FROM UserSchedule us WHERE us.user.id = :userId " +
+           "AND us.date BETWEEN :startDate AND :endDate " +
+           "AND (us.date > :afterDate OR (us.date = :afterDate AND (us.startTime > :afterTime " +
+           "OR (us.startTime = :afterTime AND us.id > :afterId)))) " +
+           "ORDER BY us.date, us.startTime, us.id")
+    List<UserSchedule> findPageAfter(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterTime") LocalTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+    
     @Query("SELECT us FROM UserSchedule us WHERE us.user.id IN :userIds " +
            "AND us.date = :date AND us.type = :type")
     List<UserSchedule> findByUserIdsAndDateAndType(
@@ -0,0 +1,67 @@
+package hyunul.schedly.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import hyunul.schedly.dto.UserScheduleDto;
+import hyunul.schedly.entity.UserSchedule;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기간 일정 스트리밍 조회 전용 리포지토리
+ * 서버 커서(useCursorFetch)로 fetch size 단위씩 읽어 행마다 DTO로 바로 넘기므로,
+ * 기간이 길어도 결과 전체를 엔티티/리스트로 올리지 않는다.
+ * (date, start_time, id) 순서는 idx_user_schedule_user_date_time 인덱스 순서 그대로다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserScheduleStreamRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${schedule.analysis.fetch-size:500}")
+    private int fetchSize;
+    
+    private static final String RANGE_SQL =
+            "SELECT id, user_id, date, start_time, end_time, title, description, type, created_at, updated_at "
+            + "FROM tb_user_schedules WHERE user_id = ? AND date BETWEEN ? AND ? "
+            + "ORDER BY date, start_time, id";
+    
+    public void forEachInRange(Long userId, LocalDate startDate, LocalDate endDate,
+                               Consumer<UserScheduleDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RANGE_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, userId);
+            statement.setObject(2, startDate);
+            statement.setObject(3, endDate);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            String type = rs.getString(8);
+            Timestamp createdAt = rs.getTimestamp(9);
+            Timestamp updatedAt = rs.getTimestamp(10);
+            consumer.accept(UserScheduleDto.builder()
+                    .id(rs.getLong(1))
+                    .userId(rs.getLong(2))
+                    .date(rs.getObject(3, LocalDate.class))
+                    .startTime(rs.getObject(4, LocalTime.class))
+                    .endTime(rs.getObject(5, LocalTime.class))
+                    .title(rs.getString(6))
+                    .description(rs.getString(7))
+                    .type(type != null ? UserSchedule.ScheduleType.valueOf(type) : null)
+                    .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                    .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                    .build());
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package hyunul.schedly.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화처럼 DB 반영 이후에 실행해야 하는 작업을 커밋 시점으로 미룬다.
+ * 커밋 전에 지우면 동시 요청이 커밋 전 데이터로 캐시를 다시 채울 수 있기 때문이다.
+ */
+final class AfterCommit {
+    
+    private AfterCommit() {
+    }
+    
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    /**
+     * 커밋되면 onCommit, 롤백되면 onRollback 실행
+     * 트랜잭션 밖이면 아무것도 등록하지 않고 false를 돌려준다 (호출한 쪽이 바로 처리).
+     */
+    static boolean onCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+        return true;
+    }
+}
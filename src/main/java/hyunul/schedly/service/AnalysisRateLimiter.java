@@ -0,0 +1,142 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석 API 요청 제한 - 사용자별, 그룹별 토큰 버킷을 Redis 스크립트로 확인/차감 (모든 노드 공유)
+ * 사용자 버킷은 요청 진입 시, 그룹 버킷은 멤버십 확인 뒤에만 차감한다 (멤버가 아닌 사용자가 그룹 한도를 소진하지 못하게).
+ * Redis를 쓸 수 없으면 노드별 로컬 버킷으로 대신 제한한다.
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class AnalysisRateLimiter {
+
+    private static final String USER_KEY = "schedule:rate-limit:user:";
+    private static final String GROUP_KEY = "schedule:rate-limit:group:";
+
+    // 토큰이 있으면 차감하고 0, 없으면 기다려야 할 시간(ms)을 반환
+    // ARGV: 용량, 충전 주기(ms) / 시각은 Redis TIME 기준 (노드 간 시계 차이 무관), 키 TTL은 충전 주기
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = capacity / tonumber(ARGV[2])
+            local state = redis.call('HMGET', KEYS[1], 't', 'ts')
+            local current = tonumber(state[1]) or capacity
+            local updated = tonumber(state[2]) or now
+            current = math.min(capacity, current + math.max(0, now - updated) * rate)
+            local wait = 0
+            if current < 1 then
+                wait = math.ceil((1 - current) / rate)
+            else
+                current = current - 1
+            end
+            redis.call('HSET', KEYS[1], 't', tostring(current), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${schedule.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${schedule.rate-limit.user.capacity:30}")
+    private long userCapacity;
+
+    @Value("${schedule.rate-limit.user.refill-seconds:60}")
+    private long userRefillSeconds;
+
+    @Value("${schedule.rate-limit.group.capacity:60}")
+    private long groupCapacity;
+
+    @Value("${schedule.rate-limit.group.refill-seconds:60}")
+    private long groupRefillSeconds;
+
+    // Redis 장애 시 쓰는 노드별 버킷
+    private Cache<String, TokenBucket> localBuckets;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        localBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofSeconds(Math.max(userRefillSeconds, groupRefillSeconds)))
+                .build();
+    }
+
+    /**
+     * 사용자 버킷에서 토큰 하나 차감 - 비어 있으면 RateLimitExceededException
+     */
+    public void acquireUser(Long userId) {
+        acquire("user", USER_KEY + userId, userCapacity, userRefillSeconds);
+    }
+
+    /**
+     * 그룹 버킷에서 토큰 하나 차감 - 반드시 요청자의 그룹 멤버십을 확인한 뒤 호출한다
+     */
+    public void acquireGroup(Long groupId) {
+        acquire("group", GROUP_KEY + groupId, groupCapacity, groupRefillSeconds);
+    }
+
+    private void acquire(String scope, String key, long capacity, long refillSeconds) {
+        if (!enabled) {
+            return;
+        }
+
+        String backend = "redis";
+        long waitMillis;
+        try {
+            Long wait = stringRedisTemplate.execute(ACQUIRE, List.of(key),
+                    String.valueOf(capacity), String.valueOf(Duration.ofSeconds(refillSeconds).toMillis()));
+            waitMillis = wait != null ? wait : 0;
+        } catch (Exception e) {
+            log.warn("Redis 요청 제한 실패, 로컬 제한으로 대체: {}", e.getMessage());
+            backend = "local";
+            long waitNanos = localBucket(key, capacity, refillSeconds).tryAcquire();
+            waitMillis = waitNanos > 0 ? Duration.ofNanos(waitNanos).toMillis() + 1 : 0;
+        }
+
+        record(scope, backend, waitMillis == 0);
+        if (waitMillis > 0) {
+            throw new RateLimitExceededException("분석 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                    Math.max(1, (waitMillis + 999) / 1000));
+        }
+    }
+
+    private TokenBucket localBucket(String key, long capacity, long refillSeconds) {
+        return localBuckets.get(key, ignored -> new TokenBucket(capacity, Duration.ofSeconds(refillSeconds)));
+    }
+
+    /**
+     * 제한 판단 결과 (schedule.rate-limit.requests, scope=user|group, backend=redis|local, result=allowed|rejected)
+     */
+    private void record(String scope, String backend, boolean allowed) {
+        String result = allowed ? "allowed" : "rejected";
+        counters.computeIfAbsent(scope + ":" + backend + ":" + result, ignored -> Counter.builder("schedule.rate-limit.requests")
+                        .tag("scope", scope)
+                        .tag("backend", backend)
+                        .tag("result", result)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,135 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 키의 캐시 미스 계산을 한 번만 수행하도록 묶는다 (single-flight)
+ * - 노드 안: 키별 CompletableFuture를 공유해 나머지 요청은 결과를 기다린다.
+ * - 노드 간: Redis 임대(SET NX PX)를 잡은 노드만 계산하고, 나머지는 캐시에 결과가 올라올 때까지 폴링한다.
+ * 임대가 만료될 때까지 결과가 없으면(리더 장애 등) 직접 계산한다.
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class AnalysisSingleFlight {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${schedule.analysis.single-flight.lease-ms:10000}")
+    private long leaseMillis;
+
+    @Value("${schedule.analysis.single-flight.poll-ms:50}")
+    private long pollMillis;
+
+    private static final String LEASE_KEY = "schedule:lease:";
+
+    // 임대를 잡은 토큰일 때만 삭제
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param lookup  캐시 조회 (다른 노드 결과 확인용, 없으면 null)
+     * @param compute 실제 계산 (결과를 캐시에 기록해야 다른 노드가 받아 갈 수 있다)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> lookup, Supplier<T> compute) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            log.debug("진행 중인 분석 결과 대기: key={}", key);
+            try {
+                return (T) leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            T result = computeWithLease(key, lookup, compute);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T computeWithLease(String key, Supplier<T> lookup, Supplier<T> compute) {
+        String leaseKey = LEASE_KEY + key;
+        String token = UUID.randomUUID().toString();
+        if (!tryAcquire(leaseKey, token)) {
+            // 다른 노드가 계산 중이면 임대 기간 동안 캐시에 결과가 올라오기를 기다린다
+            long deadline = System.currentTimeMillis() + leaseMillis;
+            while (System.currentTimeMillis() < deadline) {
+                T cached = lookup.get();
+                if (cached != null) {
+                    return cached;
+                }
+                if (!sleep()) {
+                    break;
+                }
+            }
+            log.warn("다른 노드의 분석 결과 대기 시간 초과, 직접 계산: key={}", key);
+            return compute.get();
+        }
+
+        try {
+            return compute.get();
+        } finally {
+            release(leaseKey, token);
+        }
+    }
+
+    private boolean tryAcquire(String leaseKey, String token) {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, token, Duration.ofMillis(leaseMillis));
+            return !Boolean.FALSE.equals(acquired);
+        } catch (Exception e) {
+            // Redis 장애 시에는 노드 안 묶음만 적용
+            log.warn("분석 임대 획득 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE, List.of(leaseKey), token);
+        } catch (Exception e) {
+            log.warn("분석 임대 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pollMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package hyunul.schedly.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -10,53 +13,108 @@ import hyunul.schedly.dto.RegisterRequest;
 import hyunul.schedly.dto.UserDto;
 import hyunul.schedly.entity.User;
 import hyunul.schedly.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 회원가입/로그인 - 비밀번호 해시 계산은 passwordHashingExecutor에서, 이어지는 DB 저장은
+ * authPersistenceExecutor에서 수행하고 결과를 비동기로 돌려준다
+ * (풀이 가득 차면 RejectedExecutionException, 시도 제한 초과 시 RateLimitExceededException)
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor @Slf4j
 public class AuthService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final LoginThrottle loginThrottle;
+    private final ThreadPoolExecutor passwordHashingExecutor;
+    private final ThreadPoolExecutor authPersistenceExecutor;
+    private final MeterRegistry meterRegistry;
     
-    public AuthResponseDto register(RegisterRequest request) {
+    public CompletableFuture<AuthResponseDto> register(RegisterRequest request, String clientIp) {
+        loginThrottle.checkIp(clientIp);
+        
         // 이메일 중복 확인
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
         }
         
-        // 사용자 생성
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .name(request.getName())
-                .build();
-        
-        User savedUser = userRepository.save(user);
-        
-        // JWT 토큰 생성
-        String token = jwtService.generateToken(savedUser);
-        
-        return AuthResponseDto.builder()
-                .token(token)
-                .user(convertToUserDto(savedUser))
-                .build();
+        return CompletableFuture
+                .supplyAsync(() -> hashTimer("encode").record(
+                        () -> passwordEncoder.encode(request.getPassword())), passwordHashingExecutor)
+                .thenApplyAsync(encodedPassword -> {
+                    // 사용자 생성 (이메일 중복 경합은 유니크 제약으로 409)
+                    User user = User.builder()
+                            .email(request.getEmail())
+                            .password(encodedPassword)
+                            .name(request.getName())
+                            .build();
+                    
+                    User savedUser = userRepository.save(user);
+                    return toAuthResponse(savedUser);
+                }, authPersistenceExecutor);
     }
     
-    public AuthResponseDto login(LoginRequest request) {
+    public CompletableFuture<AuthResponseDto> login(LoginRequest request, String clientIp) {
+        loginThrottle.checkIp(clientIp);
+        loginThrottle.checkEmail(request.getEmail());
+        
         // 사용자 조회
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BadCredentialsException("이메일 또는 비밀번호가 잘못되었습니다."));
         
+        return CompletableFuture
+                .supplyAsync(() -> verifyPassword(user, request.getPassword()), passwordHashingExecutor)
+                .thenApplyAsync(upgradedHash -> {
+                    if (upgradedHash != null) {
+                        upgradePassword(user, upgradedHash);
+                    }
+                    return toAuthResponse(user);
+                }, authPersistenceExecutor);
+    }
+    
+    public void logout(String token) {
+        jwtService.blacklistToken(token);
+    }
+    
+    /**
+     * 비밀번호 확인 (해시 풀에서 실행) - 저장된 해시 비용이 현재 설정보다 낮으면 새 해시를, 아니면 null 반환
+     */
+    private String verifyPassword(User user, String rawPassword) {
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        boolean matches = hashTimer("matches").record(
+                () -> passwordEncoder.matches(rawPassword, user.getPassword()));
+        if (!matches) {
             throw new BadCredentialsException("이메일 또는 비밀번호가 잘못되었습니다.");
         }
         
+        // 저장된 해시의 비용이 현재 설정보다 낮으면 로그인에 성공한 김에 새 비용으로 다시 계산 (저장은 DB 풀에서)
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return hashTimer("encode").record(() -> passwordEncoder.encode(rawPassword));
+        }
+        return null;
+    }
+    
+    private void upgradePassword(User user, String encodedPassword) {
+        try {
+            userRepository.updatePassword(user.getId(), encodedPassword);
+            log.info("비밀번호 해시 비용 갱신: userId={}", user.getId());
+        } catch (Exception e) {
+            log.warn("비밀번호 해시 갱신 실패: {}", e.getMessage());
+        }
+    }
+    
+    private Timer hashTimer(String operation) {
+        return Timer.builder("auth.password.hash")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+    
+    private AuthResponseDto toAuthResponse(User user) {
         // JWT 토큰 생성
         String token = jwtService.generateToken(user);
         
@@ -66,10 +124,6 @@ public class AuthService {
                 .build();
     }
     
-    public void logout(String token) {
-        jwtService.blacklistToken(token);
-    }
-    
     private UserDto convertToUserDto(User user) {
         return UserDto.builder()
                 .id(user.getId())
@@ -78,4 +132,4 @@ public class AuthService {
                 .createdAt(user.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+package hyunul.schedly.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import hyunul.schedly.dto.AvailabilityProfile;
+
+/**
+ * 멤버 일정들을 멤버별로 정렬/병합해 가용성 프로필로 압축
+ */
+final class AvailabilityProfileAssembler {
+
+    private static final int TIME_BITS = 17; // 하루 86400초 < 2^17
+
+    private final Map<Long, Integer> memberIndex = new HashMap<>();
+    private int memberCount;
+
+    // (멤버 << 34) | (시작 << 17) | 종료 로 압축한 구간
+    private long[] intervals = new long[16];
+    private int intervalCount;
+
+    /**
+     * 멤버 등록 (구간보다 먼저 등록되어야 하며, 등록 순서가 멤버 인덱스가 된다)
+     */
+    void addMember(Long userId) {
+        if (memberIndex.putIfAbsent(userId, memberCount) == null) {
+            memberCount++;
+        }
+    }
+
+    void add(Long userId, LocalTime start, LocalTime end) {
+        // 종료 시각은 올림해 초 단위 경계와의 비교 결과를 LocalTime 비교와 같게 유지
+        add(userId, start.toSecondOfDay(), end.toSecondOfDay() + (end.getNano() > 0 ? 1 : 0));
+    }
+
+    void add(Long userId, int startSecond, int endSecond) {
+        Integer member = memberIndex.get(userId);
+        if (member == null || endSecond <= startSecond) {
+            return;
+        }
+        if (intervalCount == intervals.length) {
+            intervals = Arrays.copyOf(intervals, intervalCount * 2);
+        }
+        intervals[intervalCount++] = ((long) member << (2 * TIME_BITS))
+                | ((long) startSecond << TIME_BITS)
+                | endSecond;
+    }
+
+    AvailabilityProfile build(LocalDate date) {
+        Arrays.sort(intervals, 0, intervalCount);
+        int[] members = new int[intervalCount];
+        int[] starts = new int[intervalCount];
+        int[] ends = new int[intervalCount];
+        int size = 0;
+
+        long timeMask = (1L << TIME_BITS) - 1;
+        for (int i = 0; i < intervalCount; i++) {
+            long interval = intervals[i];
+            int member = (int) (interval >>> (2 * TIME_BITS));
+            int start = (int) ((interval >>> TIME_BITS) & timeMask);
+            int end = (int) (interval & timeMask);
+            // 같은 멤버의 겹치거나 맞닿은 구간은 하나로 병합
+            if (size > 0 && members[size - 1] == member && start <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], end);
+                continue;
+            }
+            members[size] = member;
+            starts[size] = start;
+            ends[size] = end;
+            size++;
+        }
+
+        return AvailabilityProfile.builder()
+                .date(date)
+                .totalMembers(memberCount)
+                .memberIndexes(Arrays.copyOf(members, size))
+                .startSeconds(Arrays.copyOf(starts, size))
+                .endSeconds(Arrays.copyOf(ends, size))
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import hyunul.schedly.dto.TimeSlot;
+
+/**
+ * 하루치 일정의 시작/종료 이벤트를 한 번 정렬해 훑는 초 단위 가용성 분석기
+ * 슬롯으로 나누지 않고, 가용 인원이 바뀌는 시각마다 구간을 끊어 정확한 가용 구간을 만든다.
+ * 비용은 검색 시간대 길이와 무관하게 일정 수 n에 대해 O(n log n)이다.
+ */
+public final class AvailabilitySweepLine {
+
+    private final int windowStartSecond;
+    private final int windowEndSecond;
+    private final int memberCount;
+
+    // (시각 << 32) | (멤버 << 1) | 시작 여부 로 압축한 이벤트
+    private long[] events = new long[16];
+    private int eventCount;
+
+    // 구간 i = [boundaries[i], boundaries[i + 1]), 가용 인원 available[i]
+    private int[] boundaries;
+    private int[] available;
+    private int segmentCount;
+
+    public AvailabilitySweepLine(int memberCount, LocalTime windowStart, LocalTime windowEnd) {
+        this.windowStartSecond = windowStart.toSecondOfDay();
+        this.windowEndSecond = Math.max(windowStartSecond, windowEnd.toSecondOfDay());
+        this.memberCount = memberCount;
+    }
+
+    /**
+     * 멤버의 바쁜 구간 [startSecond, endSecond) 하나를 검색 시간대로 잘라 이벤트로 추가
+     */
+    public void addBusy(int member, int startSecond, int endSecond) {
+        int from = Math.max(windowStartSecond, startSecond);
+        int to = Math.min(windowEndSecond, endSecond);
+        if (from >= to) {
+            return;
+        }
+        if (eventCount + 2 > events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[eventCount++] = ((long) from << 32) | ((long) member << 1) | 1L;
+        events[eventCount++] = ((long) to << 32) | ((long) member << 1);
+        segmentCount = -1;
+    }
+
+    /**
+     * 가용 인원이 일정한 구간 목록 (검색 시간대 전체를 빈틈없이 덮는다)
+     */
+    public List<TimeSlot> segments() {
+        sweep();
+        List<TimeSlot> result = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            result.add(toTimeSlot(boundaries[i], boundaries[i + 1], available[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 정확히 desiredDuration 길이인 구간 중 최소 가용 인원이 높은 순으로 최대 topN개 반환
+     * 후보 시작 시각은 구간 시작점과 (구간 끝 - 길이) 뿐이므로 그 사이는 볼 필요가 없다.
+     */
+    public List<TimeSlot> selectTop(Duration desiredDuration, int topN) {
+        sweep();
+        long lengthSeconds = desiredDuration.getSeconds();
+        if (lengthSeconds < 1 || topN < 1
+                || lengthSeconds > windowEndSecond - windowStartSecond) {
+            return List.of();
+        }
+        int length = (int) lengthSeconds;
+        int lastStart = windowEndSecond - length;
+
+        int[] deque = new int[segmentCount];
+        int head = 0;
+        int tail = 0;
+        int right = 0;
+        TopWindowHeap heap = new TopWindowHeap(Math.min(topN, 2 * segmentCount));
+
+        // 두 후보 수열(구간 시작, 구간 끝 - 길이)은 각각 정렬되어 있으므로 병합하며 순회
+        int startCursor = 0;
+        int endCursor = 1;
+        int previous = -1;
+        while (true) {
+            int byStart = startCursor < segmentCount ? boundaries[startCursor] : Integer.MAX_VALUE;
+            int byEnd = endCursor <= segmentCount ? boundaries[endCursor] - length : Integer.MAX_VALUE;
+            int candidate = Math.min(byStart, byEnd);
+            if (candidate == Integer.MAX_VALUE || candidate > lastStart) {
+                break;
+            }
+            if (candidate == byStart) {
+                startCursor++;
+            } else {
+                endCursor++;
+            }
+            if (candidate < windowStartSecond || candidate == previous) {
+                continue;
+            }
+            previous = candidate;
+
+            int windowEnd = candidate + length;
+            while (right < segmentCount && boundaries[right] < windowEnd) {
+                while (tail > head && available[deque[tail - 1]] >= available[right]) {
+                    tail--;
+                }
+                deque[tail++] = right++;
+            }
+            while (boundaries[deque[head] + 1] <= candidate) {
+                head++;
+            }
+            if (available[deque[head]] > 0) {
+                heap.offer(available[deque[head]], candidate);
+            }
+        }
+
+        TimeSlot[] ranked = new TimeSlot[heap.size()];
+        for (int last = ranked.length - 1; last >= 0; last--) {
+            int start = heap.lowestStart();
+            ranked[last] = toTimeSlot(start, start + length, heap.lowestAvailable());
+            heap.removeLowest();
+        }
+        return List.of(ranked);
+    }
+
+    private void sweep() {
+        if (segmentCount >= 0 && boundaries != null) {
+            return;
+        }
+        Arrays.sort(events, 0, eventCount);
+        int[] depth = new int[memberCount];
+        boundaries = new int[eventCount + 2];
+        available = new int[eventCount + 1];
+        segmentCount = 0;
+
+        int busy = 0;
+        int current = windowStartSecond;
+        for (int i = 0; i < eventCount; i++) {
+            long event = events[i];
+            int time = (int) (event >>> 32);
+            if (time > current) {
+                appendSegment(current, memberCount - busy);
+                current = time;
+            }
+            int member = (int) event >>> 1;
+            if ((event & 1L) != 0) {
+                if (depth[member]++ == 0) {
+                    busy++;
+                }
+            } else if (--depth[member] == 0) {
+                busy--;
+            }
+        }
+        if (windowEndSecond > current) {
+            appendSegment(current, memberCount - busy);
+            current = windowEndSecond;
+        }
+        boundaries[segmentCount] = current;
+    }
+
+    private void appendSegment(int start, int availableMembers) {
+        // 가용 인원이 같은 인접 구간은 하나로 합친다
+        if (segmentCount > 0 && available[segmentCount - 1] == availableMembers) {
+            return;
+        }
+        boundaries[segmentCount] = start;
+        available[segmentCount++] = availableMembers;
+    }
+
+    private TimeSlot toTimeSlot(int startSecond, int endSecond, int availableMembers) {
+        return TimeSlot.builder()
+                .startTime(LocalTime.ofSecondOfDay(startSecond))
+                .endTime(LocalTime.ofSecondOfDay(endSecond))
+                .availableMembers(availableMembers)
+                .totalMembers(memberCount)
+                .build();
+    }
+}
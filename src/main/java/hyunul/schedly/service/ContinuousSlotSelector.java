@@ -0,0 +1,63 @@
+package hyunul.schedly.service;
+
+import java.util.List;
+
+import hyunul.schedly.dto.TimeSlot;
+
+/**
+ * 연속 슬롯 구간의 최소 가용 인원(슬라이딩 윈도우 최소값)과 상위 N개 선택을 한 번의 순회로 처리
+ * 윈도우 최소값은 단조 덱으로, 상위 N개는 크기가 N으로 고정된 힙으로 유지하므로
+ * 후보 구간마다 객체를 만들거나 전체 정렬하지 않는다.
+ */
+final class ContinuousSlotSelector {
+
+    private ContinuousSlotSelector() {
+    }
+
+    /**
+     * 가용 인원이 1명 이상인 연속 구간을 가용성 높은 순(동점이면 이른 시작 순)으로 최대 topN개 반환
+     */
+    static List<TimeSlot> selectTop(List<TimeSlot> slots, int requiredSlots, int topN) {
+        int slotCount = slots.size();
+        if (requiredSlots < 1 || requiredSlots > slotCount || topN < 1) {
+            return List.of();
+        }
+
+        int[] available = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            available[i] = slots.get(i).getAvailableMembers();
+        }
+
+        int[] deque = new int[slotCount];
+        int head = 0;
+        int tail = 0;
+        TopWindowHeap heap = new TopWindowHeap(Math.min(topN, slotCount - requiredSlots + 1));
+
+        for (int i = 0; i < slotCount; i++) {
+            while (tail > head && available[deque[tail - 1]] >= available[i]) {
+                tail--;
+            }
+            deque[tail++] = i;
+            if (deque[head] <= i - requiredSlots) {
+                head++;
+            }
+            if (i >= requiredSlots - 1 && available[deque[head]] > 0) {
+                heap.offer(available[deque[head]], i - requiredSlots + 1);
+            }
+        }
+
+        // 힙 루트가 가장 낮은 순위이므로 뒤에서부터 채우면 내림차순이 된다
+        TimeSlot[] ranked = new TimeSlot[heap.size()];
+        for (int last = ranked.length - 1; last >= 0; last--) {
+            int start = heap.lowestStart();
+            ranked[last] = TimeSlot.builder()
+                    .startTime(slots.get(start).getStartTime())
+                    .endTime(slots.get(start + requiredSlots - 1).getEndTime())
+                    .availableMembers(heap.lowestAvailable())
+                    .totalMembers(slots.get(start).getTotalMembers())
+                    .build();
+            heap.removeLowest();
+        }
+        return List.of(ranked);
+    }
+}
@@ -0,0 +1,103 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import hyunul.schedly.repository.GroupMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 → 소속 그룹 ID 인덱스 (Redis Set)
+ * 처음 조회할 때 DB에서 채우고, 멤버십이 바뀌면 GroupService가 커밋 후 해당 사용자 항목을 비운다.
+ * 비울 때마다 사용자별 버전을 올리고, 채우기는 DB 조회 전에 읽은 버전이 그대로일 때만 저장해
+ * 조회와 변경이 겹쳐도 변경 전 목록이 다시 채워지지 않는다.
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class GroupMembershipIndex {
+    
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final GroupMemberRepository groupMemberRepository;
+    
+    private static final String MEMBERSHIP_KEY = "group:membership:";
+    private static final String VERSION_KEY = "group:membership:version:";
+    private static final Duration INDEX_TTL = Duration.ofDays(1);
+    
+    // 소속 그룹이 없는 사용자도 "조회 완료" 상태를 남기기 위한 표식 (IDENTITY 키는 1부터 시작)
+    private static final long LOADED_MARKER = 0L;
+    
+    // KEYS: 인덱스, 버전 / ARGV: 조회 전 버전, TTL(초), 그룹 ID... - 버전이 바뀌었으면 저장하지 않음
+    private static final RedisScript<Long> FILL = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+    
+    // KEYS: 인덱스, 버전 / ARGV: TTL(초)
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+    
+    public Set<Long> getGroupIds(Long userId) {
+        String key = MEMBERSHIP_KEY + userId;
+        String versionKey = VERSION_KEY + userId;
+        long version;
+        try {
+            Set<Object> cached = redisTemplate.opsForSet().members(key);
+            if (cached != null && !cached.isEmpty()) {
+                return cached.stream()
+                        .map(value -> ((Number) value).longValue())
+                        .filter(groupId -> groupId != LOADED_MARKER)
+                        .collect(Collectors.toSet());
+            }
+            // DB 조회 전에 버전을 읽어 둔다 (그 사이 evict되면 저장하지 않음)
+            Object current = redisTemplate.opsForValue().get(versionKey);
+            version = current instanceof Number number ? number.longValue() : 0L;
+        } catch (Exception e) {
+            log.warn("멤버십 인덱스 조회 실패: {}", e.getMessage());
+            return Set.copyOf(groupMemberRepository.findGroupIdsByUserId(userId));
+        }
+    
+        List<Long> groupIds = groupMemberRepository.findGroupIdsByUserId(userId);
+        try {
+            List<Object> args = new ArrayList<>(groupIds.size() + 3);
+            args.add(version);
+            args.add(INDEX_TTL.toSeconds());
+            args.add(LOADED_MARKER);
+            args.addAll(groupIds);
+            redisTemplate.execute(FILL, List.of(key, versionKey), args.toArray());
+        } catch (Exception e) {
+            log.warn("멤버십 인덱스 저장 실패: {}", e.getMessage());
+        }
+        return Set.copyOf(groupIds);
+    }
+    
+    /**
+     * 멤버십 변경 후 호출 - 커밋 이후 버전을 올리고 사용자 항목을 지워 다음 조회 때 DB에서 다시 채운다
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.execute(EVICT, List.of(MEMBERSHIP_KEY + userId, VERSION_KEY + userId),
+                        INDEX_TTL.toSeconds());
+            } catch (Exception e) {
+                log.warn("멤버십 인덱스 삭제 실패: {}", e.getMessage());
+            }
+        });
+    }
+}
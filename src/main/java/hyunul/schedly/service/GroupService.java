@@ -2,10 +2,14 @@ package hyunul.schedly.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import hyunul.schedly.dto.CreateGroupRequest;
+import hyunul.schedly.dto.CursorPageDto;
+import hyunul.schedly.dto.GroupDetailDto;
 import hyunul.schedly.dto.GroupDto;
 import hyunul.schedly.dto.GroupMemberDto;
 import hyunul.schedly.entity.Group;
@@ -15,7 +19,6 @@ import hyunul.schedly.repository.GroupMemberRepository;
 import hyunul.schedly.repository.GroupRepository;
 import hyunul.schedly.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,6 +30,9 @@ public class GroupService {
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final RecommendationCacheService recommendationCacheService;
+    private final SlotCounterService slotCounterService;
     
     public GroupDto createGroup(Long ownerId, CreateGroupRequest request) {
         User owner = userRepository.findById(ownerId)
@@ -48,17 +54,43 @@ public class GroupService {
                 .build();
         
         groupMemberRepository.save(ownerMember);
+        groupMembershipIndex.evict(ownerId);
         
         return convertToDto(savedGroup);
     }
     
-    public List<GroupDto> getUserGroups(Long userId) {
-        List<Group> groups = groupRepository.findGroupsByMemberId(userId);
-        return groups.stream()
-                .map(this::convertToDto)
-                .toList();
+    /**
+     * 사용자가 속한 그룹 목록 (최근 생성 순, 키셋 페이지)
+     * 소유자 이름과 멤버 수까지 쿼리 한 번으로 읽고, 커서(마지막 그룹 ID) 이후만 조회하므로
+     * 소속 그룹 수와 무관하게 페이지당 비용이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<GroupDto> getUserGroups(Long userId, String cursor, int size) {
+        Long afterId = parseCursor(cursor);
+        List<GroupDto> groups = groupRepository.findGroupSummariesByMemberId(
+                userId, afterId, PageRequest.of(0, size + 1));
+        
+        boolean hasNext = groups.size() > size;
+        List<GroupDto> items = hasNext ? groups.subList(0, size) : groups;
+        return CursorPageDto.<GroupDto>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(items.get(items.size() - 1).getId()) : null)
+                .build();
+    }
+    
+    private Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
     
+    @Transactional(readOnly = true)
     public GroupDto getGroup(Long groupId, Long userId) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다."));
@@ -71,6 +103,19 @@ public class GroupService {
         return convertToDto(group);
     }
     
+    /**
+     * 소유자/관리자 여부 확인 (그룹 운영용 API 권한)
+     */
+    @Transactional(readOnly = true)
+    public void checkManager(Long groupId, Long userId) {
+        GroupMember member = groupMemberRepository.findByGroupIdAndUserId(groupId, userId)
+                .orElseThrow(() -> new AccessDeniedException("그룹에 접근할 권한이 없습니다."));
+        
+        if (member.getRole() == GroupMember.MemberRole.MEMBER) {
+            throw new AccessDeniedException("소유자나 관리자만 사용할 수 있습니다.");
+        }
+    }
+    
     public void addMember(Long groupId, Long requesterId, String memberEmail) {
         // 권한 확인
         GroupMember requester = groupMemberRepository.findByGroupIdAndUserId(groupId, requesterId)
@@ -99,6 +144,11 @@ public class GroupService {
                 .build();
         
         groupMemberRepository.save(member);
+        
+        // 멤버 구성이 바뀌었으므로 멤버십 인덱스, 그룹의 추천 캐시와 슬롯 카운터 갱신
+        groupMembershipIndex.evict(newMember.getId());
+        recommendationCacheService.invalidateGroup(groupId);
+        slotCounterService.applyMembershipChange(groupId, newMember.getId(), 1);
     }
     
     public void removeMember(Long groupId, Long requesterId, Long memberId) {
@@ -120,20 +170,52 @@ public class GroupService {
         }
         
         groupMemberRepository.deleteByGroupIdAndUserId(groupId, memberId);
+        
+        // 멤버 구성이 바뀌었으므로 멤버십 인덱스, 그룹의 추천 캐시와 슬롯 카운터 갱신
+        groupMembershipIndex.evict(memberId);
+        recommendationCacheService.invalidateGroup(groupId);
+        slotCounterService.applyMembershipChange(groupId, memberId, -1);
     }
     
+    @Transactional(readOnly = true)
     public List<GroupMemberDto> getGroupMembers(Long groupId, Long userId) {
-        // 멤버십 확인
-        if (!groupMemberRepository.existsByGroupIdAndUserId(groupId, userId)) {
-            throw new AccessDeniedException("그룹 멤버 목록을 볼 권한이 없습니다.");
-        }
-        
-        List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
-        return members.stream()
+        Group group = loadGroupWithMembers(groupId, userId, "그룹 멤버 목록을 볼 권한이 없습니다.");
+        return group.getMembers().stream()
                 .map(this::convertToMemberDto)
                 .toList();
     }
     
+    /**
+     * 그룹, 소유자, 멤버 목록을 한 번에 조회 (조회된 멤버 목록으로 접근 권한도 확인)
+     */
+    @Transactional(readOnly = true)
+    public GroupDetailDto getGroupWithMembers(Long groupId, Long userId) {
+        Group group = loadGroupWithMembers(groupId, userId, "그룹에 접근할 권한이 없습니다.");
+        
+        GroupDto groupDto = convertToDto(group);
+        groupDto.setMemberCount((long) group.getMembers().size());
+        
+        return GroupDetailDto.builder()
+                .group(groupDto)
+                .members(group.getMembers().stream()
+                        .map(this::convertToMemberDto)
+                        .toList())
+                .build();
+    }
+    
+    private Group loadGroupWithMembers(Long groupId, Long userId, String deniedMessage) {
+        Group group = groupRepository.findWithOwnerAndMembersById(groupId)
+                .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다."));
+        
+        // 멤버십 확인 (추가 조회 없이 함께 읽은 멤버 목록으로)
+        boolean isMember = group.getMembers().stream()
+                .anyMatch(member -> member.getUser().getId().equals(userId));
+        if (!isMember) {
+            throw new AccessDeniedException(deniedMessage);
+        }
+        return group;
+    }
+    
     private GroupDto convertToDto(Group group) {
         return GroupDto.builder()
                 .id(group.getId())
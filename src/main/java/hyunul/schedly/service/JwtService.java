@@ -1,20 +1,32 @@
 package hyunul.schedly.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import hyunul.schedly.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,9 +41,51 @@ public class JwtService {
     @Value("${jwt.expiration:86400}") // 24시간
     private Long expiration;
 
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    private static final String BLACKLIST_KEY_PREFIX = "jwt:blacklist:";
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private long verifiedCacheMaxEntries;
+
+    private final TokenRevocationStore tokenRevocationStore;
+    private final MeterRegistry meterRegistry;
+
+    // 서명 검증을 마친 토큰의 클레임 (키: 토큰 SHA-256, 토큰 만료 시각에 함께 만료)
+    private Cache<String, Claims> verifiedTokens;
+    private Timer verifyTimer;
+    private Counter verifiedCacheHits;
+    private Counter verifiedCacheMisses;
+
+    @PostConstruct
+    void init() {
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxEntries)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return Duration.ofMillis(Math.max(remainingMillis, 0)).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        verifyTimer = Timer.builder("jwt.verify")
+                .description("JWT 파싱 및 HS512 서명 검증 시간 (캐시 미스)")
+                .register(meterRegistry);
+        verifiedCacheHits = Counter.builder("jwt.verified-cache.gets")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        verifiedCacheMisses = Counter.builder("jwt.verified-cache.gets")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
 
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
@@ -46,6 +100,7 @@ public class JwtService {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
                 .signWith(SignatureAlgorithm.HS512, secretKey)
@@ -69,44 +124,80 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+    /**
+     * 서명과 만료를 검증한 뒤 클레임 전체를 반환 (검증 실패 시 JwtException)
+     * 한 번 검증한 토큰은 만료 전까지 캐시에서 바로 돌려주므로 같은 토큰을 다시 검증하지 않는다.
+     */
+    public Claims extractAllClaims(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            verifiedCacheHits.increment();
+            return cached;
+        }
+        verifiedCacheMisses.increment();
+
+        Claims claims = verifyTimer.record(() -> Jwts.parser()
+                .setSigningKey(secretKey)
+                .parseClaimsJws(token)
+                .getBody());
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    // 토큰 SHA-256 (검증 캐시 키, jti 없는 토큰의 폐기 ID)
+    static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     public Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
 
+    /**
+     * 폐기 여부는 노드 메모리의 폐기 목록으로 판단 (요청마다 Redis를 조회하지 않음)
+     */
     public Boolean isTokenBlacklisted(String token) {
-        String blacklistKey = BLACKLIST_KEY_PREFIX + token;
-        try {
-            return redisTemplate.hasKey(blacklistKey);
-        } catch (Exception e) {
-            log.warn("Redis에서 블랙리스트 확인 실패: {}", e.getMessage());
-            return false;
-        }
+        return isTokenBlacklisted(token, extractAllClaims(token));
+    }
+
+    /**
+     * 이미 검증한 클레임으로 폐기 여부 확인 (jti가 있으면 토큰을 다시 해시하지 않음)
+     */
+    public Boolean isTokenBlacklisted(String token, Claims claims) {
+        return tokenRevocationStore.isRevoked(tokenId(token, claims));
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String email = extractEmail(token);
-        return (email.equals(userDetails.getUsername())
-                && !isTokenExpired(token)
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername())
+                && claims.getExpiration().after(new Date())
                 && !isTokenBlacklisted(token));
     }
 
     public void blacklistToken(String token) {
         try {
-            String blacklistKey = BLACKLIST_KEY_PREFIX + token;
-            Date expiration = extractExpiration(token);
-            long ttl = expiration.getTime() - System.currentTimeMillis();
+            Claims claims = extractAllClaims(token);
+            long expiresAt = claims.getExpiration().getTime();
 
-            if (ttl > 0) {
-                redisTemplate.opsForValue().set(blacklistKey, "blacklisted",
-                        Duration.ofMillis(ttl));
+            if (expiresAt > System.currentTimeMillis()) {
+                tokenRevocationStore.revoke(tokenId(token, claims), expiresAt);
                 log.info("토큰이 블랙리스트에 추가됨");
             }
         } catch (Exception e) {
             log.warn("토큰 블랙리스트 추가 실패: {}", e.getMessage());
         }
     }
+
+    // jti가 없는 이전 토큰은 토큰 다이제스트로 구분
+    private String tokenId(String token, Claims claims) {
+        return claims.getId() != null ? claims.getId() : digest(token);
+    }
 }
@@ -0,0 +1,67 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인/회원가입 시도 제한 (이메일별, 클라이언트 IP별 토큰 버킷)
+ * 비밀번호 해시 계산 전에 걸러서 대량 시도가 해시 풀을 차지하지 못하게 한다.
+ */
+@Service
+@Slf4j
+public class LoginThrottle {
+    
+    @Value("${auth.throttle.email.capacity:5}")
+    private long emailCapacity;
+    
+    @Value("${auth.throttle.email.refill-seconds:60}")
+    private long emailRefillSeconds;
+    
+    @Value("${auth.throttle.ip.capacity:30}")
+    private long ipCapacity;
+    
+    @Value("${auth.throttle.ip.refill-seconds:60}")
+    private long ipRefillSeconds;
+    
+    // 오래 쓰이지 않은 버킷은 가득 찬 상태와 같으므로 제거해도 된다
+    private Cache<String, TokenBucket> buckets;
+    
+    @PostConstruct
+    void init() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofSeconds(Math.max(emailRefillSeconds, ipRefillSeconds)))
+                .build();
+    }
+    
+    public void checkEmail(String email) {
+        acquire("email:" + email.toLowerCase(Locale.ROOT), emailCapacity, emailRefillSeconds,
+                "해당 계정의 로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+    
+    public void checkIp(String clientIp) {
+        acquire("ip:" + clientIp, ipCapacity, ipRefillSeconds,
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+    
+    private void acquire(String key, long capacity, long refillSeconds, String message) {
+        TokenBucket bucket = buckets.get(key,
+                ignored -> new TokenBucket(capacity, Duration.ofSeconds(refillSeconds)));
+        long waitNanos = bucket.tryAcquire();
+        if (waitNanos > 0) {
+            log.warn("인증 요청 제한: {}", key);
+            throw new RateLimitExceededException(message,
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package hyunul.schedly.service;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과 (429, Retry-After 헤더로 다시 시도할 수 있는 시간을 알린다)
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,386 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import hyunul.schedly.dto.AvailabilityProfile;
+import hyunul.schedly.dto.ScheduleRecommendationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 결과 2단 캐시
+ * - 프로필: 그룹/날짜별 가용성 프로필 (회의 길이와 무관)
+ * - 추천: 그룹/날짜 해시 안에 분석 조건(모드, 길이, 시간대, 개수)별 필드로 저장
+ * 그룹/날짜 단위 무효화는 두 키 삭제만으로 모든 조건의 결과를 지운다.
+ * 그룹별로 캐시된 날짜 목록을 따로 두어 멤버 변경 시 그룹 전체를 지울 수 있게 한다.
+ * 조회는 프로세스 내 L1(RecommendationNearCache)을 먼저 보고, 없을 때만 Redis(L2)로 간다.
+ * 무효화마다 그룹별 세대 번호를 올리고, 저장은 계산 전에 읽은 세대 번호가 그대로일 때만 해
+ * 무효화와 겹친 계산이 변경 전 결과를 다시 채우지 않게 한다.
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class RecommendationCacheService {
+    
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RecommendationNearCache nearCache;
+    
+    private static final String RECOMMENDATION_CACHE_KEY = "schedule:recommendation:";
+    private static final String PROFILE_CACHE_KEY = "schedule:profile:";
+    private static final String CACHED_DATES_KEY = "schedule:cached-dates:";
+    private static final String GENERATION_KEY = "schedule:cache-gen:";
+    private static final Duration CACHE_TTL = Duration.ofHours(2);
+    private static final Duration PAST_DATE_CACHE_TTL = Duration.ofDays(30);
+    
+    // KEYS: 프로필, 캐시된 날짜 목록, 세대 번호 / ARGV: 계산 전 세대 번호, 프로필, TTL(초), 날짜, 날짜 목록 TTL(초)
+    private static final RedisScript<Long> PUT_PROFILE = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+    
+    // KEYS: 추천 해시, 캐시된 날짜 목록, 세대 번호 / ARGV: 계산 전 세대 번호, 조건(필드), 추천 결과, TTL(초), 날짜, 날짜 목록 TTL(초)
+    private static final RedisScript<Long> PUT_RECOMMENDATIONS = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('SADD', KEYS[2], ARGV[5])
+            redis.call('EXPIRE', KEYS[2], ARGV[6])
+            return 1
+            """, Long.class);
+    
+    // KEYS: 그룹별 세대 번호..., 삭제할 키... / ARGV: 그룹 수, 세대 번호 TTL(초)
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+            local groups = tonumber(ARGV[1])
+            for i = 1, groups do
+                redis.call('INCR', KEYS[i])
+                redis.call('EXPIRE', KEYS[i], ARGV[2])
+            end
+            for i = groups + 1, #KEYS do
+                redis.call('DEL', KEYS[i])
+            end
+            return 1
+            """, Long.class);
+    
+    public String recommendationKey(Long groupId, LocalDate date) {
+        return RECOMMENDATION_CACHE_KEY + groupId + ":" + date;
+    }
+    
+    public String profileKey(Long groupId, LocalDate date) {
+        return PROFILE_CACHE_KEY + groupId + ":" + date;
+    }
+    
+    private String cachedDatesKey(Long groupId) {
+        return CACHED_DATES_KEY + groupId;
+    }
+    
+    /**
+     * 캐시 세대 번호 - 프로필/추천을 계산하기 전(캐시나 DB를 읽기 전)에 읽어 저장 시 넘긴다
+     * 읽지 못하면 -1을 돌려주어 이번 계산 결과는 저장하지 않는다.
+     */
+    public long generation(Long groupId) {
+        try {
+            Object current = redisTemplate.opsForValue().get(GENERATION_KEY + groupId);
+            return current instanceof Number number ? number.longValue() : 0L;
+        } catch (Exception e) {
+            log.warn("추천 캐시 세대 번호 조회 실패: {}", e.getMessage());
+            return -1L;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    public List<ScheduleRecommendationDto> getRecommendations(Long groupId, LocalDate date, String variant) {
+        String key = recommendationKey(groupId, date);
+        Object local = nearCache.get(key, variant);
+        nearCache.record("l1", "recommendation", local != null);
+        if (local != null) {
+            return (List<ScheduleRecommendationDto>) local;
+        }
+        try {
+            Object cached = redisTemplate.opsForHash().get(key, variant);
+            nearCache.record("l2", "recommendation", cached != null);
+            if (cached != null) {
+                nearCache.put(key, variant, cached);
+            }
+            return (List<ScheduleRecommendationDto>) cached;
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 여러 날짜의 추천 결과 조회 - L1에 없는 날짜만 한 번의 파이프라인으로 조회 (캐시에 없는 날짜는 결과에서 제외)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<LocalDate, List<ScheduleRecommendationDto>> getRecommendations(
+            Long groupId, List<LocalDate> dates, String variant) {
+        Map<LocalDate, List<ScheduleRecommendationDto>> result = new HashMap<>();
+        List<LocalDate> remoteDates = new ArrayList<>();
+        for (LocalDate date : dates) {
+            Object local = nearCache.get(recommendationKey(groupId, date), variant);
+            nearCache.record("l1", "recommendation", local != null);
+            if (local != null) {
+                result.put(date, (List<ScheduleRecommendationDto>) local);
+            } else {
+                remoteDates.add(date);
+            }
+        }
+        if (remoteDates.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (LocalDate date : remoteDates) {
+                        ops.opsForHash().get(recommendationKey(groupId, date), variant);
+                    }
+                    return null;
+                }
+            });
+            for (int i = 0; i < remoteDates.size(); i++) {
+                Object cached = values.get(i);
+                nearCache.record("l2", "recommendation", cached != null);
+                if (cached != null) {
+                    nearCache.put(recommendationKey(groupId, remoteDates.get(i)), variant, cached);
+                    result.put(remoteDates.get(i), (List<ScheduleRecommendationDto>) cached);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+    
+    /**
+     * 추천 결과와 캐시된 날짜 등록을 한 번의 왕복으로 저장 (그 사이 무효화되었으면 L1까지 저장하지 않음)
+     */
+    public void putRecommendations(Long groupId, LocalDate date, String variant,
+                                   List<ScheduleRecommendationDto> recommendations, long generation) {
+        String key = recommendationKey(groupId, date);
+        try {
+            List<ScheduleRecommendationDto> value = new ArrayList<>(recommendations);
+            Long stored = redisTemplate.execute(PUT_RECOMMENDATIONS,
+                    List.of(key, cachedDatesKey(groupId), GENERATION_KEY + groupId),
+                    generation, variant, value, ttlFor(date).toSeconds(),
+                    date.toString(), PAST_DATE_CACHE_TTL.toSeconds());
+            if (stored != null && stored == 1L) {
+                nearCache.put(key, variant, value);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+    
+    public AvailabilityProfile getProfile(Long groupId, LocalDate date) {
+        String key = profileKey(groupId, date);
+        Object local = nearCache.get(key, RecommendationNearCache.VALUE_FIELD);
+        nearCache.record("l1", "profile", local != null);
+        if (local != null) {
+            return (AvailabilityProfile) local;
+        }
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            nearCache.record("l2", "profile", cached != null);
+            if (cached != null) {
+                nearCache.put(key, RecommendationNearCache.VALUE_FIELD, cached);
+            }
+            return (AvailabilityProfile) cached;
+        } catch (Exception e) {
+            log.warn("Redis 프로필 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 여러 날짜의 프로필 조회 - L1에 없는 날짜만 MGET 한 번으로 조회 (캐시에 없는 날짜는 결과에서 제외)
+     */
+    public Map<LocalDate, AvailabilityProfile> getProfiles(Long groupId, List<LocalDate> dates) {
+        Map<LocalDate, AvailabilityProfile> result = new HashMap<>();
+        List<LocalDate> remoteDates = new ArrayList<>();
+        for (LocalDate date : dates) {
+            Object local = nearCache.get(profileKey(groupId, date), RecommendationNearCache.VALUE_FIELD);
+            nearCache.record("l1", "profile", local != null);
+            if (local != null) {
+                result.put(date, (AvailabilityProfile) local);
+            } else {
+                remoteDates.add(date);
+            }
+        }
+        if (remoteDates.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(
+                    remoteDates.stream().map(date -> profileKey(groupId, date)).toList());
+            for (int i = 0; values != null && i < remoteDates.size(); i++) {
+                Object cached = values.get(i);
+                nearCache.record("l2", "profile", cached != null);
+                if (cached != null) {
+                    nearCache.put(profileKey(groupId, remoteDates.get(i)), RecommendationNearCache.VALUE_FIELD, cached);
+                    result.put(remoteDates.get(i), (AvailabilityProfile) cached);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis 프로필 조회 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+    
+    /**
+     * 프로필과 캐시된 날짜 등록을 한 번의 왕복으로 저장 (그 사이 무효화되었으면 L1까지 저장하지 않음)
+     */
+    public void putProfile(Long groupId, AvailabilityProfile profile, long generation) {
+        String key = profileKey(groupId, profile.getDate());
+        try {
+            Long stored = redisTemplate.execute(PUT_PROFILE,
+                    List.of(key, cachedDatesKey(groupId), GENERATION_KEY + groupId),
+                    generation, profile, ttlFor(profile.getDate()).toSeconds(),
+                    profile.getDate().toString(), PAST_DATE_CACHE_TTL.toSeconds());
+            if (stored != null && stored == 1L) {
+                nearCache.put(key, RecommendationNearCache.VALUE_FIELD, profile);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 프로필 저장 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 그룹/날짜의 프로필과 모든 조건의 추천 결과 삭제
+     */
+    public void invalidate(Long groupId, LocalDate date) {
+        invalidate(List.of(groupId), List.of(date));
+    }
+    
+    /**
+     * 여러 그룹 x 날짜 조합의 캐시를 커밋 후 세대 번호 증가와 함께 한 번의 왕복으로 삭제
+     * Redis 삭제가 실패해도 L1(이 노드와 다른 노드)은 반드시 비운다.
+     */
+    public void invalidate(Collection<Long> groupIds, Collection<LocalDate> dates) {
+        if (groupIds.isEmpty() || dates.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(groupIds.size() * dates.size() * 2);
+        for (Long groupId : groupIds) {
+            for (LocalDate date : dates) {
+                keys.add(profileKey(groupId, date));
+                keys.add(recommendationKey(groupId, date));
+            }
+        }
+        // 세대 번호 키를 앞에 두고 삭제할 키를 뒤에 붙인다
+        List<String> scriptKeys = new ArrayList<>(groupIds.size() + keys.size());
+        groupIds.forEach(groupId -> scriptKeys.add(GENERATION_KEY + groupId));
+        scriptKeys.addAll(keys);
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.execute(INVALIDATE, scriptKeys, groupIds.size(), PAST_DATE_CACHE_TTL.toSeconds());
+                log.info("추천 캐시 무효화: groupIds={}, dates={}", groupIds, dates);
+            } catch (Exception e) {
+                log.warn("캐시 무효화 실패: {}", e.getMessage());
+            } finally {
+                nearCache.evict(keys);
+            }
+        });
+    }
+    
+    /**
+     * 그룹의 캐시된 모든 날짜 삭제 (멤버 구성이 바뀌어 모든 프로필이 무효가 된 경우)
+     */
+    public void invalidateGroup(Long groupId) {
+        AfterCommit.run(() -> {
+            List<String> keys = new ArrayList<>();
+            try {
+                // 날짜 목록을 읽기 전에 세대 번호를 올려 이후 저장(새 날짜 등록 포함)을 막는다
+                bumpGeneration(groupId);
+                String datesKey = cachedDatesKey(groupId);
+                Set<Object> dates = redisTemplate.opsForSet().members(datesKey);
+                keys.add(datesKey);
+                if (dates != null) {
+                    for (Object date : dates) {
+                        keys.add(PROFILE_CACHE_KEY + groupId + ":" + date);
+                        keys.add(RECOMMENDATION_CACHE_KEY + groupId + ":" + date);
+                    }
+                }
+                redisTemplate.delete(keys);
+                log.info("그룹 추천 캐시 무효화: groupId={}, dates={}", groupId, keys.size() / 2);
+            } catch (Exception e) {
+                log.warn("캐시 무효화 실패: {}", e.getMessage());
+            } finally {
+                if (!keys.isEmpty()) {
+                    nearCache.evict(keys);
+                }
+            }
+        });
+    }
+    
+    /**
+     * 그룹의 캐시된 날짜 중 affected에 해당하는 날짜만 삭제 (반복 일정처럼 영향 날짜가 규칙으로 주어지는 경우)
+     */
+    public void invalidateGroup(Long groupId, Predicate<LocalDate> affected) {
+        AfterCommit.run(() -> {
+            List<String> keys = new ArrayList<>();
+            try {
+                bumpGeneration(groupId);
+                String datesKey = cachedDatesKey(groupId);
+                Set<Object> dates = redisTemplate.opsForSet().members(datesKey);
+                if (dates == null || dates.isEmpty()) {
+                    return;
+                }
+                List<Object> removed = new ArrayList<>();
+                for (Object date : dates) {
+                    if (affected.test(LocalDate.parse(date.toString()))) {
+                        removed.add(date);
+                        keys.add(PROFILE_CACHE_KEY + groupId + ":" + date);
+                        keys.add(RECOMMENDATION_CACHE_KEY + groupId + ":" + date);
+                    }
+                }
+                if (removed.isEmpty()) {
+                    return;
+                }
+                redisTemplate.delete(keys);
+                redisTemplate.opsForSet().remove(datesKey, removed.toArray());
+                log.info("그룹 추천 캐시 무효화: groupId={}, dates={}", groupId, removed.size());
+            } catch (Exception e) {
+                log.warn("캐시 무효화 실패: {}", e.getMessage());
+            } finally {
+                if (!keys.isEmpty()) {
+                    nearCache.evict(keys);
+                }
+            }
+        });
+    }
+    
+    private void bumpGeneration(Long groupId) {
+        redisTemplate.execute(INVALIDATE, List.of(GENERATION_KEY + groupId), 1, PAST_DATE_CACHE_TTL.toSeconds());
+    }
+    
+    /**
+     * 지난 날짜의 결과는 거의 바뀌지 않고, 바뀌면 일정 변경 시 무효화되므로 훨씬 길게 보관
+     */
+    private Duration ttlFor(LocalDate date) {
+        return date.isBefore(LocalDate.now()) ? PAST_DATE_CACHE_TTL : CACHE_TTL;
+    }
+}
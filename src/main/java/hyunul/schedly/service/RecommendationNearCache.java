@@ -0,0 +1,96 @@
+package hyunul.schedly.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis(L2) 앞단의 프로세스 내 L1 캐시
+ * Redis 키 단위로 필드(추천 조건, 프로필은 빈 필드)별 값을 보관하고, 크기/시간 기준으로 제거한다.
+ * 무효화는 Redis pub/sub 채널로 전파해 모든 노드의 L1에서 같은 키를 지운다.
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class RecommendationNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "schedule:cache-invalidation";
+    static final String VALUE_FIELD = "";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${schedule.cache.local.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${schedule.cache.local.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private Cache<String, Map<String, Object>> entries;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Object get(String key, String field) {
+        Map<String, Object> fields = entries.getIfPresent(key);
+        return fields != null ? fields.get(field) : null;
+    }
+
+    public void put(String key, String field, Object value) {
+        entries.get(key, ignored -> new ConcurrentHashMap<>()).put(field, value);
+    }
+
+    /**
+     * 이 노드의 L1에서 즉시 지우고, 다른 노드에도 같은 키 삭제를 알린다
+     */
+    public void evict(Collection<String> keys) {
+        entries.invalidateAll(keys);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join("\n", keys));
+        } catch (Exception e) {
+            log.warn("L1 캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        entries.invalidateAll(List.of(body.split("\n")));
+    }
+
+    /**
+     * 계층(l1/l2), 캐시 종류, 적중 여부별 조회 수 기록 (schedule.cache.gets)
+     */
+    public void record(String tier, String cache, boolean hit) {
+        String result = hit ? "hit" : "miss";
+        counters.computeIfAbsent(tier + ":" + cache + ":" + result, ignored -> Counter.builder("schedule.cache.gets")
+                        .tag("tier", tier)
+                        .tag("cache", cache)
+                        .tag("result", result)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
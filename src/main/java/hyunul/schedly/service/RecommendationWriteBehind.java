@@ -0,0 +1,141 @@
+package hyunul.schedly.service;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import hyunul.schedly.dto.ScheduleRecommendationDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 결과의 DB 기록을 요청 흐름 밖에서 처리하는 write-behind 파이프라인
+ * - 같은 그룹/날짜에 대한 기록은 대기 중인 최신 결과 하나로 합친다.
+ * - 마지막으로 기록한 내용과 해시가 같으면 기록을 건너뛴다.
+ * - IDENTITY 키라 Hibernate 배치가 동작하지 않으므로 JDBC 배치 INSERT로 기록한다.
+ * - 종료 시에는 DataSource가 닫히기 전에 대기 중인 기록을 모두 처리한다.
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class RecommendationWriteBehind {
+
+    private final ScheduledExecutorService recommendationWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${schedule.analysis.write-behind.delay-ms:500}")
+    private long delayMillis;
+
+    @Value("${schedule.analysis.write-behind.shutdown-timeout-ms:5000}")
+    private long shutdownTimeoutMillis;
+
+    private static final String DELETE_SQL =
+            "DELETE FROM tb_schedule_recommendations WHERE group_id = ? AND target_date = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO tb_schedule_recommendations (group_id, target_date, start_time, end_time, "
+            + "available_members, total_members, availability_score, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final Map<String, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final Cache<String, Integer> writtenHashes = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    /**
+     * 그룹/날짜의 최신 추천 결과 기록 예약 (이미 대기 중이면 내용만 교체)
+     */
+    public void submit(Long groupId, LocalDate targetDate, List<ScheduleRecommendationDto> recommendations) {
+        String key = groupId + ":" + targetDate;
+        PendingWrite write = new PendingWrite(groupId, targetDate, List.copyOf(recommendations),
+                contentHash(recommendations));
+        if (pending.put(key, write) != null) {
+            return;
+        }
+        try {
+            recommendationWriter.schedule(() -> flush(key), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pending.remove(key, write);
+            log.warn("추천 결과 기록 예약 실패: key={}", key);
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 기록을 호출 스레드에서 바로 처리한 뒤, 실행 중인 기록이 끝나기를 제한 시간까지 기다린다
+     * (이 빈이 먼저 정리되므로 JdbcTemplate/DataSource는 아직 살아 있다)
+     */
+    @PreDestroy
+    void drain() {
+        List<String> keys = new ArrayList<>(pending.keySet());
+        keys.forEach(this::flush);
+        recommendationWriter.shutdown();
+        try {
+            if (!recommendationWriter.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("추천 결과 기록 종료 대기 시간 초과: remaining={}", pending.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("추천 결과 기록 종료: flushed={}", keys.size());
+    }
+
+    private void flush(String key) {
+        PendingWrite write = pending.remove(key);
+        if (write == null || Objects.equals(writtenHashes.getIfPresent(key), write.contentHash())) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_SQL, write.groupId(), Date.valueOf(write.targetDate()));
+                Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.batchUpdate(INSERT_SQL, write.recommendations(), Math.max(1, write.recommendations().size()),
+                        (ps, recommendation) -> {
+                            ps.setLong(1, write.groupId());
+                            ps.setDate(2, Date.valueOf(write.targetDate()));
+                            ps.setTime(3, Time.valueOf(recommendation.getStartTime()));
+                            ps.setTime(4, Time.valueOf(recommendation.getEndTime()));
+                            ps.setInt(5, recommendation.getAvailableMembers());
+                            ps.setInt(6, recommendation.getTotalMembers());
+                            ps.setDouble(7, recommendation.getAvailabilityScore());
+                            ps.setTimestamp(8, createdAt);
+                        });
+            });
+            writtenHashes.put(key, write.contentHash());
+        } catch (Exception e) {
+            log.warn("추천 결과 기록 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private static int contentHash(List<ScheduleRecommendationDto> recommendations) {
+        int hash = 1;
+        for (ScheduleRecommendationDto recommendation : recommendations) {
+            hash = 31 * hash + Objects.hash(recommendation.getStartTime(), recommendation.getEndTime(),
+                    recommendation.getAvailableMembers(), recommendation.getTotalMembers());
+        }
+        return hash;
+    }
+
+    private record PendingWrite(Long groupId, LocalDate targetDate,
+                                List<ScheduleRecommendationDto> recommendations, int contentHash) {
+    }
+}
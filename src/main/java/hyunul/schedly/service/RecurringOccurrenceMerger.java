@@ -0,0 +1,102 @@
+package hyunul.schedly.service;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import hyunul.schedly.dto.UserScheduleDto;
+import hyunul.schedly.entity.RecurringSchedule;
+
+/**
+ * (date, startTime, id) 순으로 흘러오는 단건 일정 사이에 반복 일정 발생분을 같은 순서로 끼워 넣는다
+ * 발생분은 하루치씩만 펼쳐 두므로 기간 길이와 무관하게 메모리가 일정하다.
+ * 받는 쪽이 다 찼으면(full) 다음 날을 더 펼치지 않는다 (페이지 크기만큼만 계산).
+ * 발생분은 id가 없으므로 정렬/커서용 키로 -(규칙 ID)를 쓴다 (단건 일정보다 항상 앞).
+ */
+final class RecurringOccurrenceMerger {
+
+    static final Comparator<UserScheduleDto> ORDER = Comparator
+            .comparing(UserScheduleDto::getDate)
+            .thenComparing(UserScheduleDto::getStartTime)
+            .thenComparingLong(RecurringOccurrenceMerger::sortId);
+
+    private final List<RecurringSchedule> rules;
+    private final LocalDate endDate;
+    private final BiFunction<RecurringSchedule, LocalDate, UserScheduleDto> toDto;
+    private final BooleanSupplier full;
+    private final ArrayDeque<UserScheduleDto> pending = new ArrayDeque<>();
+    private LocalDate nextDay;
+
+    RecurringOccurrenceMerger(List<RecurringSchedule> rules, LocalDate startDate, LocalDate endDate,
+                              BiFunction<RecurringSchedule, LocalDate, UserScheduleDto> toDto) {
+        this(rules, startDate, endDate, toDto, () -> false);
+    }
+
+    RecurringOccurrenceMerger(List<RecurringSchedule> rules, LocalDate startDate, LocalDate endDate,
+                              BiFunction<RecurringSchedule, LocalDate, UserScheduleDto> toDto,
+                              BooleanSupplier full) {
+        this.rules = rules;
+        this.endDate = endDate;
+        this.toDto = toDto;
+        this.full = full;
+        // 규칙이 없으면 펼칠 날짜도 없다
+        this.nextDay = rules.isEmpty() ? endDate.plusDays(1) : startDate;
+    }
+
+    static long sortId(UserScheduleDto schedule) {
+        return schedule.getId() != null ? schedule.getId() : -schedule.getRecurringScheduleId();
+    }
+
+    /**
+     * next보다 앞서는 발생분을 순서대로 sink에 넘긴다
+     */
+    void drainBefore(UserScheduleDto next, Consumer<UserScheduleDto> sink) {
+        while (true) {
+            if (pending.isEmpty()) {
+                if (nextDay.isAfter(next.getDate()) || nextDay.isAfter(endDate) || full.getAsBoolean()) {
+                    return;
+                }
+                expandNextDay();
+                continue;
+            }
+            if (ORDER.compare(pending.peekFirst(), next) >= 0) {
+                return;
+            }
+            sink.accept(pending.pollFirst());
+        }
+    }
+
+    /**
+     * 남은 발생분을 기간 끝까지(또는 받는 쪽이 찰 때까지) 넘긴다
+     */
+    void drainAll(Consumer<UserScheduleDto> sink) {
+        while (true) {
+            if (pending.isEmpty()) {
+                if (nextDay.isAfter(endDate) || full.getAsBoolean()) {
+                    return;
+                }
+                expandNextDay();
+                continue;
+            }
+            sink.accept(pending.pollFirst());
+        }
+    }
+
+    private void expandNextDay() {
+        LocalDate day = nextDay;
+        nextDay = nextDay.plusDays(1);
+        List<UserScheduleDto> occurrences = new ArrayList<>();
+        for (RecurringSchedule rule : rules) {
+            if (!rule.occurrencesBetween(day, day).isEmpty()) {
+                occurrences.add(toDto.apply(rule, day));
+            }
+        }
+        occurrences.sort(ORDER);
+        pending.addAll(occurrences);
+    }
+}
@@ -0,0 +1,149 @@
+package hyunul.schedly.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import hyunul.schedly.dto.RecurringScheduleDto;
+import hyunul.schedly.dto.RecurringScheduleRequest;
+import hyunul.schedly.entity.RecurringSchedule;
+import hyunul.schedly.entity.User;
+import hyunul.schedly.entity.UserSchedule;
+import hyunul.schedly.repository.RecurringScheduleRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 반복 일정 규칙 관리
+ * 규칙이 바뀌면 변경 전/후 규칙이 발생하는 날짜 중 캐시/카운터가 있는 날짜만 무효화한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor @Slf4j
+public class RecurringScheduleService {
+    
+    private final RecurringScheduleRepository recurringScheduleRepository;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final RecommendationCacheService recommendationCacheService;
+    private final SlotCounterService slotCounterService;
+    
+    public RecurringScheduleDto createRecurringSchedule(Long userId, RecurringScheduleRequest request) {
+        RecurringSchedule rule = RecurringSchedule.builder()
+                .user(User.builder().id(userId).build())
+                .build();
+        apply(rule, request);
+        RecurringSchedule saved = recurringScheduleRepository.save(rule);
+        
+        invalidateOccurrences(userId, occursOn(copyOf(saved)));
+        return convertToDto(saved);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<RecurringScheduleDto> getRecurringSchedules(Long userId) {
+        return recurringScheduleRepository.findByUserIdOrderByStartDate(userId).stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+    
+    public RecurringScheduleDto updateRecurringSchedule(Long ruleId, Long userId, RecurringScheduleRequest request) {
+        RecurringSchedule rule = findOwned(ruleId, userId);
+        RecurringSchedule before = copyOf(rule);
+        
+        apply(rule, request);
+        RecurringSchedule updated = recurringScheduleRepository.save(rule);
+        
+        // 변경 전 규칙이 차지하던 날짜와 변경 후 규칙이 차지하는 날짜 모두
+        invalidateOccurrences(userId, occursOn(before).or(occursOn(copyOf(updated))));
+        return convertToDto(updated);
+    }
+    
+    public void deleteRecurringSchedule(Long ruleId, Long userId) {
+        RecurringSchedule rule = findOwned(ruleId, userId);
+        RecurringSchedule before = copyOf(rule);
+        recurringScheduleRepository.delete(rule);
+        
+        invalidateOccurrences(userId, occursOn(before));
+    }
+    
+    private RecurringSchedule findOwned(Long ruleId, Long userId) {
+        RecurringSchedule rule = recurringScheduleRepository.findById(ruleId)
+                .orElseThrow(() -> new EntityNotFoundException("반복 일정을 찾을 수 없습니다."));
+        if (!rule.getUser().getId().equals(userId)) {
+            throw new AccessDeniedException("반복 일정을 변경할 권한이 없습니다.");
+        }
+        return rule;
+    }
+    
+    private void apply(RecurringSchedule rule, RecurringScheduleRequest request) {
+        rule.setFrequency(request.getFrequency());
+        rule.setRepeatInterval(request.getRepeatInterval());
+        rule.setStartDate(request.getStartDate());
+        rule.setUntilDate(request.getUntilDate());
+        rule.setStartTime(request.getStartTime());
+        rule.setEndTime(request.getEndTime());
+        rule.setTitle(request.getTitle());
+        rule.setDescription(request.getDescription());
+        rule.setType(request.getType() != null ? request.getType() : UserSchedule.ScheduleType.BUSY);
+        rule.setExceptionDates(request.getExceptionDates() != null
+                ? new TreeSet<>(request.getExceptionDates())
+                : new TreeSet<>());
+    }
+    
+    private void invalidateOccurrences(Long userId, Predicate<LocalDate> affected) {
+        // 해당 사용자가 속한 그룹들의 캐시된 날짜 중 규칙이 발생하는 날짜만 무효화
+        try {
+            Set<Long> groupIds = groupMembershipIndex.getGroupIds(userId);
+            for (Long groupId : groupIds) {
+                recommendationCacheService.invalidateGroup(groupId, affected);
+                slotCounterService.evict(groupId, affected);
+            }
+        } catch (Exception e) {
+            log.warn("반복 일정 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+    
+    // 커밋 후 판정에 쓰이므로 영속 엔티티가 아닌 사본 기준 (분석에 쓰이는 BUSY 규칙만 해당)
+    private static Predicate<LocalDate> occursOn(RecurringSchedule rule) {
+        return date -> rule.getType() == UserSchedule.ScheduleType.BUSY
+                && !rule.occurrencesBetween(date, date).isEmpty();
+    }
+    
+    private static RecurringSchedule copyOf(RecurringSchedule rule) {
+        return RecurringSchedule.builder()
+                .frequency(rule.getFrequency())
+                .repeatInterval(rule.getRepeatInterval())
+                .startDate(rule.getStartDate())
+                .untilDate(rule.getUntilDate())
+                .startTime(rule.getStartTime())
+                .endTime(rule.getEndTime())
+                .type(rule.getType())
+                .exceptionDates(new TreeSet<>(rule.getExceptionDates()))
+                .build();
+    }
+    
+    private RecurringScheduleDto convertToDto(RecurringSchedule rule) {
+        return RecurringScheduleDto.builder()
+                .id(rule.getId())
+                .userId(rule.getUser().getId())
+                .frequency(rule.getFrequency())
+                .repeatInterval(rule.getRepeatInterval())
+                .startDate(rule.getStartDate())
+                .untilDate(rule.getUntilDate())
+                .startTime(rule.getStartTime())
+                .endTime(rule.getEndTime())
+                .title(rule.getTitle())
+                .description(rule.getDescription())
+                .type(rule.getType())
+                .exceptionDates(rule.getExceptionDates())
+                .createdAt(rule.getCreatedAt())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+}
@@ -2,26 +2,30 @@ package hyunul.schedly.service;
 
 import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import hyunul.schedly.dto.AnalyzeScheduleRangeRequest;
+import hyunul.schedly.dto.AnalyzeScheduleRequest;
+import hyunul.schedly.dto.AvailabilityProfile;
+import hyunul.schedly.dto.GroupDetailDto;
+import hyunul.schedly.dto.ScheduleAnalysisResultDto;
+import hyunul.schedly.dto.ScheduleRangeAnalysisResultDto;
 import hyunul.schedly.dto.ScheduleRecommendationDto;
 import hyunul.schedly.dto.TimeSlot;
-import hyunul.schedly.entity.Group;
-import hyunul.schedly.entity.ScheduleRecommendation;
-import hyunul.schedly.entity.User;
-import hyunul.schedly.entity.UserSchedule;
 import hyunul.schedly.repository.GroupMemberRepository;
-import hyunul.schedly.repository.ScheduleRecommendationRepository;
-import hyunul.schedly.repository.UserScheduleRepository;
-import jakarta.transaction.Transactional;
+import hyunul.schedly.repository.ScheduleIntervalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,162 +34,322 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor @Slf4j
 public class ScheduleAnalysisService {
     
+    private final GroupService groupService;
     private final GroupMemberRepository groupMemberRepository;
-    private final UserScheduleRepository userScheduleRepository;
-    private final ScheduleRecommendationRepository recommendationRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScheduleIntervalRepository scheduleIntervalRepository;
+    private final RecommendationCacheService recommendationCacheService;
+    private final SlotCounterService slotCounterService;
+    private final AnalysisSingleFlight analysisSingleFlight;
+    private final RecommendationWriteBehind recommendationWriteBehind;
+    private final ForkJoinPool analysisPool;
+    private final AnalysisRateLimiter analysisRateLimiter;
     
-    private static final String RECOMMENDATION_CACHE_KEY = "schedule:recommendation:";
-    private static final Duration CACHE_TTL = Duration.ofHours(2);
+    private static final Duration SLOT_LENGTH = Duration.ofMinutes(30);
     
     /**
-     * 그룹의 공통 가능 시간대 분석 및 추천
+     * 그룹 정보/멤버 조회, 권한 확인, 분석을 묶어 응답 전체를 구성
+     * 그룹/소유자/멤버는 조인 한 번으로 읽고, 같은 결과로 멤버십을 확인한 뒤 그룹 요청 한도를 차감하고 분석한다.
+     * 분석은 트랜잭션 밖에서 수행한다 - single-flight 대기 중인 요청이 DB 커넥션을 잡고 있지 않도록,
+     * 그리고 캐시에 남을 프로필을 복제본이 아닌 원본에서 읽도록 (트랜잭션 밖 조회는 원본으로 라우팅).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ScheduleAnalysisResultDto analyzeGroupSchedule(Long groupId, Long userId, AnalyzeScheduleRequest request) {
+        GroupDetailDto detail = groupService.getGroupWithMembers(groupId, userId);
+        analysisRateLimiter.acquireGroup(groupId);
+        RecommendationResult analysis = analyze(groupId, request);
+    
+        return ScheduleAnalysisResultDto.builder()
+                .groupId(groupId)
+                .groupName(detail.getGroup().getName())
+                .targetDate(request.getTargetDate())
+                .totalMembers(detail.getMembers().size())
+                .recommendations(analysis.recommendations())
+                .members(detail.getMembers())
+                .metadata(ScheduleAnalysisResultDto.AnalysisMetadata.builder()
+                        .analyzedAt(LocalDateTime.now())
+                        .requestedDurationMinutes(request.getDurationMinutes())
+                        .searchStartTime(request.getPreferredStartTime())
+                        .searchEndTime(request.getPreferredEndTime())
+                        .fromCache(analysis.fromCache())
+                        .cacheKey(analysis.cacheKey())
+                        .build())
+                .build();
+    }
+    
+    /**
+     * 그룹의 공통 가능 시간대 분석 및 추천 (트랜잭션 밖에서 수행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ScheduleRecommendationDto> analyzeAndRecommendSchedule(
-            Long groupId, LocalDate targetDate, Duration desiredDuration) {
-        
-        String cacheKey = RECOMMENDATION_CACHE_KEY + groupId + ":" + targetDate;
-        
-        // Redis 캐시 확인
-        List<ScheduleRecommendationDto> cachedResult = getCachedRecommendations(cacheKey);
+            Long groupId, AnalyzeScheduleRequest request) {
+        return analyze(groupId, request).recommendations();
+    }
+    
+    private RecommendationResult analyze(Long groupId, AnalyzeScheduleRequest request) {
+        LocalDate targetDate = request.getTargetDate();
+        String variant = variantKey(request);
+        // 추천 캐시 위치 (해시 키:필드)
+        String cacheKey = recommendationCacheService.recommendationKey(groupId, targetDate) + ":" + variant;
+    
+        // 같은 조건의 추천 결과 캐시 확인
+        List<ScheduleRecommendationDto> cachedResult = recommendationCacheService
+                .getRecommendations(groupId, targetDate, variant);
         if (cachedResult != null) {
             log.info("캐시에서 추천 결과 반환: groupId={}, date={}", groupId, targetDate);
-            return cachedResult;
+            return new RecommendationResult(cachedResult, true, cacheKey);
         }
-        
-        // 그룹 멤버들 조회
-        List<User> groupMembers = groupMemberRepository.findUsersByGroupId(groupId);
-        if (groupMembers.isEmpty()) {
+    
+        // 같은 그룹/날짜/조건의 동시 미스는 한 번만 계산하고 나머지는 그 결과를 받는다
+        // (다른 요청이 계산해 둔 결과를 받은 경우도 캐시 응답으로 본다)
+        boolean[] computed = {false};
+        List<ScheduleRecommendationDto> result = analysisSingleFlight.execute(cacheKey,
+                () -> recommendationCacheService.getRecommendations(groupId, targetDate, variant),
+                () -> {
+                    computed[0] = true;
+                    return computeRecommendations(groupId, request, variant);
+                });
+        return new RecommendationResult(result, !computed[0], cacheKey);
+    }
+    
+    private List<ScheduleRecommendationDto> computeRecommendations(
+            Long groupId, AnalyzeScheduleRequest request, String variant) {
+    
+        LocalDate targetDate = request.getTargetDate();
+        // 카운터/프로필을 읽기 전에 캐시 세대 번호 확인 (그 사이 무효화되면 결과를 저장하지 않음)
+        long cacheGeneration = recommendationCacheService.generation(groupId);
+        List<TimeSlot> availableSlots;
+        int totalMembers;
+        SlotCounterService.Counters counters = slotCounterService.supports(request)
+                ? slotCounterService.getCounters(groupId, targetDate)
+                : null;
+        if (counters != null) {
+            // 슬롯 카운터로 DB 조회 없이 계산
+            totalMembers = counters.getTotalMembers();
+            availableSlots = findContinuousAvailableSlots(
+                    counters.toTimeSlots(request.getPreferredStartTime(), request.getPreferredEndTime()),
+                    Duration.ofMinutes(request.getDurationMinutes()), request.getMaxRecommendations());
+        } else {
+            // 카운터 생성이 이후 일정 변경과 겹치면 저장되지 않도록 데이터를 읽기 전에 세대 번호 확인
+            long generation = slotCounterService.supports(request) ? slotCounterService.generation(groupId) : -1L;
+            // 조건과 무관한 가용성 프로필 캐시 확인 (없을 때만 DB 조회)
+            AvailabilityProfile profile = recommendationCacheService.getProfile(groupId, targetDate);
+            if (profile == null) {
+                profile = loadProfiles(groupId, List.of(targetDate)).get(0);
+                recommendationCacheService.putProfile(groupId, profile, cacheGeneration);
+            }
+            if (slotCounterService.supports(request)) {
+                // 이후 요청부터는 카운터로 응답하도록 프로필에서 카운터 생성
+                slotCounterService.build(groupId, profile, generation);
+            }
+            totalMembers = profile.getTotalMembers();
+            availableSlots = analyzeAvailableTimeSlots(profile, request);
+        }
+        if (totalMembers == 0) {
+            // 빈 결과도 캐시해 다른 노드의 대기 요청이 임대 만료까지 기다리지 않게 한다
+            recommendationCacheService.putRecommendations(
+                    groupId, targetDate, variant, Collections.emptyList(), cacheGeneration);
             return Collections.emptyList();
         }
         
-        List<Long> memberIds = groupMembers.stream().map(User::getId).toList();
-        
-        // 해당 날짜의 모든 멤버 일정 조회
-        List<UserSchedule> memberSchedules = userScheduleRepository
-                .findByUserIdsAndDateAndType(memberIds, targetDate, UserSchedule.ScheduleType.BUSY);
-        
-        // 시간대별 가용성 분석
-        List<TimeSlot> availableSlots = analyzeAvailableTimeSlots(
-                groupMembers, memberSchedules, targetDate, desiredDuration);
-        
-        // 추천 결과 생성 및 저장
-        List<ScheduleRecommendation> recommendations = createRecommendations(
-                groupId, targetDate, availableSlots, groupMembers.size());
-        
-        // DB 저장
-        recommendationRepository.deleteByGroupIdAndTargetDate(groupId, targetDate);
-        recommendationRepository.saveAll(recommendations);
-        
-        // DTO 변환
-        List<ScheduleRecommendationDto> result = recommendations.stream()
-                .map(this::convertToDto)
-                .toList();
+        List<ScheduleRecommendationDto> result = saveRecommendations(
+                groupId, targetDate, availableSlots, totalMembers);
         
         // Redis 캐시 저장
-        cacheRecommendations(cacheKey, result);
-        
+        recommendationCacheService.putRecommendations(groupId, targetDate, variant, result, cacheGeneration);
+    
         return result;
     }
     
     /**
-     * 시간대별 가용성 분석
+     * 기간 내 날짜별 공통 가능 시간대 분석 및 추천
+     * 캐시 조회는 날짜 수와 무관하게 한 번의 왕복으로 처리하고,
+     * 프로필까지 없는 날짜만 DB에서 한 번에 조회해 병렬로 계산한다.
+     * 읽은 프로필이 캐시에 남으므로 복제본이 아닌 원본에서 읽도록 트랜잭션 밖에서 수행한다.
      */
-    private List<TimeSlot> analyzeAvailableTimeSlots(
-            List<User> members, List<UserSchedule> busySchedules, 
-            LocalDate date, Duration desiredDuration) {
-        
-        // 업무 시간 설정 (9시-18시)
-        LocalTime workStart = LocalTime.of(9, 0);
-        LocalTime workEnd = LocalTime.of(18, 0);
-        
-        // 30분 단위로 시간 슬롯 생성
-        List<TimeSlot> timeSlots = generateTimeSlots(workStart, workEnd, Duration.ofMinutes(30));
-        
-        // 각 시간 슬롯별 가용 멤버 수 계산
-        for (TimeSlot slot : timeSlots) {
-            int availableCount = calculateAvailableMembers(
-                    members, busySchedules, slot.getStartTime(), slot.getEndTime());
-            slot.setAvailableMembers(availableCount);
-            slot.setTotalMembers(members.size());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ScheduleRangeAnalysisResultDto analyzeDateRange(Long groupId, AnalyzeScheduleRangeRequest request) {
+        List<LocalDate> dates = request.getStartDate()
+                .datesUntil(request.getEndDate().plusDays(1))
+                .toList();
+        String variant = variantKey(request.toDailyRequest(request.getStartDate()));
+    
+        // 날짜별 추천 결과 캐시 확인
+        Map<LocalDate, List<ScheduleRecommendationDto>> cachedDays = recommendationCacheService
+                .getRecommendations(groupId, dates, variant);
+        List<LocalDate> missingDates = dates.stream()
+                .filter(date -> !cachedDays.containsKey(date))
+                .toList();
+    
+        // 추천 결과가 없는 날짜는 프로필 캐시 확인 후, 프로필도 없는 날짜만 DB에서 구성
+        // (읽기 전에 캐시 세대 번호를 확인해 그 사이 무효화되면 결과를 저장하지 않음)
+        long cacheGeneration = missingDates.isEmpty() ? -1L : recommendationCacheService.generation(groupId);
+        Map<LocalDate, AvailabilityProfile> profiles = new HashMap<>();
+        if (!missingDates.isEmpty()) {
+            profiles.putAll(recommendationCacheService.getProfiles(groupId, missingDates));
+            List<LocalDate> unprofiledDates = missingDates.stream()
+                    .filter(date -> !profiles.containsKey(date))
+                    .toList();
+            if (!unprofiledDates.isEmpty()) {
+                for (AvailabilityProfile profile : loadProfiles(groupId, unprofiledDates)) {
+                    recommendationCacheService.putProfile(groupId, profile, cacheGeneration);
+                    profiles.put(profile.getDate(), profile);
+                }
+            }
         }
-        
-        // 원하는 기간만큼의 연속된 가용 시간대 찾기
-        return findContinuousAvailableSlots(timeSlots, desiredDuration);
+    
+        // 날짜별 분석은 DB 접근이 없는 순수 계산이므로 전용 풀에서 병렬 수행
+        Map<LocalDate, List<TimeSlot>> slotsByDate = analysisPool.submit(() ->
+                missingDates.parallelStream()
+                        .collect(Collectors.toMap(
+                                date -> date,
+                                date -> analyzeAvailableTimeSlots(
+                                        profiles.get(date), request.toDailyRequest(date)))))
+                .join();
+    
+        // 저장과 캐시는 요청 스레드에서 순차 처리
+        Map<LocalDate, List<ScheduleRecommendationDto>> computedDays = new HashMap<>();
+        for (LocalDate date : missingDates) {
+            int totalMembers = profiles.get(date).getTotalMembers();
+            if (totalMembers == 0) {
+                computedDays.put(date, List.of());
+                continue;
+            }
+            List<ScheduleRecommendationDto> result = saveRecommendations(
+                    groupId, date, slotsByDate.get(date), totalMembers);
+            recommendationCacheService.putRecommendations(groupId, date, variant, result, cacheGeneration);
+            computedDays.put(date, result);
+        }
+    
+        List<ScheduleRangeAnalysisResultDto.DailyRecommendation> days = dates.stream()
+                .map(date -> ScheduleRangeAnalysisResultDto.DailyRecommendation.builder()
+                        .date(date)
+                        .recommendations(cachedDays.containsKey(date)
+                                ? cachedDays.get(date)
+                                : computedDays.getOrDefault(date, List.of()))
+                        .fromCache(cachedDays.containsKey(date))
+                        .build())
+                .toList();
+    
+        return ScheduleRangeAnalysisResultDto.builder()
+                .groupId(groupId)
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .totalMembers(countMembers(groupId, profiles, cachedDays))
+                .days(days)
+                .analyzedAt(LocalDateTime.now())
+                .build();
     }
     
-    private List<TimeSlot> generateTimeSlots(LocalTime start, LocalTime end, Duration interval) {
-        List<TimeSlot> slots = new ArrayList<>();
-        LocalTime current = start;
-        
-        while (current.plus(interval).isBefore(end) || current.plus(interval).equals(end)) {
-            slots.add(TimeSlot.builder()
-                    .startTime(current)
-                    .endTime(current.plus(interval))
-                    .build());
-            current = current.plus(interval);
+    /**
+     * 추천 캐시 해시 필드 (같은 날짜라도 모드, 길이, 검색 시간대, 개수가 다르면 따로 보관)
+     * 결과는 개수만큼 잘라 저장하므로 개수가 빠지면 적은 개수로 잘린 결과가 다른 요청에 돌아간다.
+     */
+    static String variantKey(AnalyzeScheduleRequest request) {
+        return request.getMode() + ":" + request.getDurationMinutes()
+                + ":" + request.getPreferredStartTime() + "-" + request.getPreferredEndTime()
+                + ":" + request.getMaxRecommendations();
+    }
+    
+    /**
+     * 그룹 멤버와 대상 날짜들의 바쁜 일정을 한 번씩 조회해 날짜별 가용성 프로필 구성
+     */
+    private List<AvailabilityProfile> loadProfiles(Long groupId, List<LocalDate> dates) {
+        Map<LocalDate, AvailabilityProfileAssembler> assemblers = new LinkedHashMap<>();
+        for (LocalDate date : dates) {
+            assemblers.put(date, new AvailabilityProfileAssembler());
         }
-        
-        return slots;
+    
+        // 멤버 목록과 바쁜 구간을 읽어 날짜별 조립기에 바로 적재 (단건 일정은 user_id 순으로 들어온다)
+        // 반복 일정 발생 구간은 멤버 등록이 끝난 뒤 들어오며, 분석 대상이 아닌 날짜의 발생분은 버린다
+        long[] lastUserId = {Long.MIN_VALUE};
+        scheduleIntervalRepository.forEachGroupBusyInterval(groupId, dates.get(0), dates.get(dates.size() - 1),
+                (userId, date, startSecond, endSecond) -> {
+                    if (userId != lastUserId[0]) {
+                        lastUserId[0] = userId;
+                        assemblers.values().forEach(assembler -> assembler.addMember(userId));
+                    }
+                    AvailabilityProfileAssembler assembler = date != null ? assemblers.get(date) : null;
+                    if (assembler != null) {
+                        assembler.add(userId, startSecond, endSecond);
+                    }
+                });
+    
+        List<AvailabilityProfile> profiles = new ArrayList<>(dates.size());
+        assemblers.forEach((date, assembler) -> profiles.add(assembler.build(date)));
+        return profiles;
     }
     
-    private int calculateAvailableMembers(List<User> members, List<UserSchedule> busySchedules,
-                                        LocalTime slotStart, LocalTime slotEnd) {
-        Set<Long> busyMemberIds = busySchedules.stream()
-                .filter(schedule -> isTimeConflict(schedule.getStartTime(), schedule.getEndTime(),
-                                                 slotStart, slotEnd))
-                .map(schedule -> schedule.getUser().getId())
-                .collect(Collectors.toSet());
-        
-        return (int) members.stream()
-                .filter(member -> !busyMemberIds.contains(member.getId()))
-                .count();
+    private int countMembers(Long groupId, Map<LocalDate, AvailabilityProfile> profiles,
+                             Map<LocalDate, List<ScheduleRecommendationDto>> cachedDays) {
+        // 이미 확보한 프로필이나 캐시된 추천에 인원 수가 있으면 추가 조회하지 않는다
+        return profiles.values().stream()
+                .findFirst()
+                .map(AvailabilityProfile::getTotalMembers)
+                .or(() -> cachedDays.values().stream()
+                        .flatMap(List::stream)
+                        .findFirst()
+                        .map(ScheduleRecommendationDto::getTotalMembers))
+                .orElseGet(() -> (int) groupMemberRepository.countByGroupId(groupId));
     }
     
-    private boolean isTimeConflict(LocalTime scheduleStart, LocalTime scheduleEnd,
-                                 LocalTime slotStart, LocalTime slotEnd) {
-        return scheduleStart.isBefore(slotEnd) && scheduleEnd.isAfter(slotStart);
+    private List<ScheduleRecommendationDto> saveRecommendations(
+            Long groupId, LocalDate targetDate, List<TimeSlot> availableSlots, int totalMembers) {
+    
+        // 추천 결과 생성
+        List<ScheduleRecommendationDto> recommendations = createRecommendations(
+                targetDate, availableSlots, totalMembers);
+    
+        // DB 기록은 write-behind로 넘기고 응답은 기다리지 않는다
+        recommendationWriteBehind.submit(groupId, targetDate, recommendations);
+    
+        return recommendations;
     }
     
-    private List<TimeSlot> findContinuousAvailableSlots(List<TimeSlot> slots, Duration desiredDuration) {
-        List<TimeSlot> result = new ArrayList<>();
-        int requiredSlots = (int) (desiredDuration.toMinutes() / 30); // 30분 단위
-        
-        for (int i = 0; i <= slots.size() - requiredSlots; i++) {
-            List<TimeSlot> continuous = slots.subList(i, i + requiredSlots);
-            
-            // 연속된 시간대의 최소 가용 멤버 수 계산
-            int minAvailable = continuous.stream()
-                    .mapToInt(TimeSlot::getAvailableMembers)
-                    .min()
-                    .orElse(0);
-            
-            if (minAvailable > 0) {
-                TimeSlot combinedSlot = TimeSlot.builder()
-                        .startTime(continuous.get(0).getStartTime())
-                        .endTime(continuous.get(continuous.size() - 1).getEndTime())
-                        .availableMembers(minAvailable)
-                        .totalMembers(continuous.get(0).getTotalMembers())
-                        .build();
-                
-                result.add(combinedSlot);
+    /**
+     * 시간대별 가용성 분석 (요청한 검색 시간대 안에서 분석 모드에 따라 수행)
+     */
+    private List<TimeSlot> analyzeAvailableTimeSlots(AvailabilityProfile profile, AnalyzeScheduleRequest request) {
+    
+        Duration desiredDuration = Duration.ofMinutes(request.getDurationMinutes());
+        int[] members = profile.getMemberIndexes();
+        int[] starts = profile.getStartSeconds();
+        int[] ends = profile.getEndSeconds();
+    
+        if (request.getMode() == AnalyzeScheduleRequest.AnalysisMode.EXACT) {
+            // 일정 경계 기준 초 단위 분석 (슬롯 반올림 없음)
+            AvailabilitySweepLine sweepLine = new AvailabilitySweepLine(profile.getTotalMembers(),
+                    request.getPreferredStartTime(), request.getPreferredEndTime());
+            for (int i = 0; i < members.length; i++) {
+                sweepLine.addBusy(members[i], starts[i], ends[i]);
             }
+            return sweepLine.selectTop(desiredDuration, request.getMaxRecommendations());
         }
-        
-        // 가용성 점수로 정렬
-        return result.stream()
-                .sorted((a, b) -> Double.compare(
-                        b.getAvailabilityScore(), a.getAvailabilityScore()))
-                .limit(10) // 상위 10개만 반환
-                .toList();
+    
+        // 30분 단위 슬롯에 멤버별 바쁜 시간 비트맵 구성 후 슬롯별 가용 멤버 수 계산
+        SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(profile.getTotalMembers(),
+                request.getPreferredStartTime(), request.getPreferredEndTime(), SLOT_LENGTH);
+        for (int i = 0; i < members.length; i++) {
+            matrix.markBusy(members[i], starts[i], ends[i]);
+        }
+        List<TimeSlot> timeSlots = matrix.toTimeSlots();
+    
+        // 원하는 기간만큼의 연속된 가용 시간대 찾기
+        return findContinuousAvailableSlots(timeSlots, desiredDuration, request.getMaxRecommendations());
     }
     
-    private List<ScheduleRecommendation> createRecommendations(
-            Long groupId, LocalDate targetDate, List<TimeSlot> availableSlots, int totalMembers) {
-        
+    private List<TimeSlot> findContinuousAvailableSlots(
+            List<TimeSlot> slots, Duration desiredDuration, int maxRecommendations) {
+        int requiredSlots = (int) (desiredDuration.toMinutes() / SLOT_LENGTH.toMinutes());
+    
+        // 연속 구간 최소 가용 인원을 한 번에 훑으며 가용성 점수 상위 N개만 유지
+        return ContinuousSlotSelector.selectTop(slots, requiredSlots, maxRecommendations);
+    }
+    
+    private List<ScheduleRecommendationDto> createRecommendations(
+            LocalDate targetDate, List<TimeSlot> availableSlots, int totalMembers) {
+    
         return availableSlots.stream()
-                .map(slot -> ScheduleRecommendation.builder()
-                        .group(Group.builder().id(groupId).build())
+                .map(slot -> ScheduleRecommendationDto.builder()
                         .targetDate(targetDate)
                         .startTime(slot.getStartTime())
                         .endTime(slot.getEndTime())
@@ -196,46 +360,14 @@ public class ScheduleAnalysisService {
                 .toList();
     }
     
-    @SuppressWarnings("unchecked")
-    private List<ScheduleRecommendationDto> getCachedRecommendations(String cacheKey) {
-        try {
-            return (List<ScheduleRecommendationDto>) redisTemplate.opsForValue().get(cacheKey);
-        } catch (Exception e) {
-            log.warn("Redis 캐시 조회 실패: {}", e.getMessage());
-            return null;
-        }
-    }
-    
-    private void cacheRecommendations(String cacheKey, List<ScheduleRecommendationDto> recommendations) {
-        try {
-            redisTemplate.opsForValue().set(cacheKey, recommendations, CACHE_TTL);
-        } catch (Exception e) {
-            log.warn("Redis 캐시 저장 실패: {}", e.getMessage());
-        }
-    }
-    
-    private ScheduleRecommendationDto convertToDto(ScheduleRecommendation recommendation) {
-        return ScheduleRecommendationDto.builder()
-                .id(recommendation.getId())
-                .targetDate(recommendation.getTargetDate())
-                .startTime(recommendation.getStartTime())
-                .endTime(recommendation.getEndTime())
-                .availableMembers(recommendation.getAvailableMembers())
-                .totalMembers(recommendation.getTotalMembers())
-                .availabilityScore(recommendation.getAvailabilityScore())
-                .build();
-    }
-    
     /**
-     * 캐시 무효화 (스케줄 변경 시 호출)
+     * 캐시 무효화 (스케줄 변경 시 호출) - 프로필과 모든 조건의 추천 결과를 함께 삭제
      */
     public void invalidateRecommendationCache(Long groupId, LocalDate date) {
-        String cacheKey = RECOMMENDATION_CACHE_KEY + groupId + ":" + date;
-        try {
-            redisTemplate.delete(cacheKey);
-            log.info("추천 캐시 무효화: groupId={}, date={}", groupId, date);
-        } catch (Exception e) {
-            log.warn("캐시 무효화 실패: {}", e.getMessage());
-        }
+        recommendationCacheService.invalidate(groupId, date);
+    }
+    
+    private record RecommendationResult(
+            List<ScheduleRecommendationDto> recommendations, boolean fromCache, String cacheKey) {
     }
-}
\ No newline at end of file
+}
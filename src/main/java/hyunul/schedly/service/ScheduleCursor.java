@@ -0,0 +1,38 @@
+package hyunul.schedly.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import hyunul.schedly.dto.UserScheduleDto;
+
+/**
+ * 일정 목록 커서 - (date, startTime, 정렬용 id)를 불투명 문자열로 인코딩
+ */
+record ScheduleCursor(LocalDate date, LocalTime time, long id) {
+    
+    static ScheduleCursor of(UserScheduleDto schedule) {
+        return new ScheduleCursor(schedule.getDate(), schedule.getStartTime(),
+                RecurringOccurrenceMerger.sortId(schedule));
+    }
+    
+    static ScheduleCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new ScheduleCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+    
+    String encode() {
+        String raw = date + "|" + time + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    boolean isBefore(UserScheduleDto schedule) {
+        return RecurringOccurrenceMerger.ORDER.compare(
+                UserScheduleDto.builder().date(date).startTime(time).id(id).build(), schedule) < 0;
+    }
+}
@@ -0,0 +1,166 @@
+package hyunul.schedly.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 데이터 정리 작업 (매일 새벽)
+ * - 추천 결과: 대상 날짜가 보존 기간을 지난 행 삭제
+ * - 일정: 보존 기간이 지난 행을 보관 테이블로 옮긴 뒤 삭제
+ * 잠금 시간을 짧게 유지하도록 작은 배치 단위 트랜잭션으로 나눠 처리하고,
+ * 여러 노드 중 Redis 임대를 잡은 한 노드만 실행한다 (임대는 실행마다 다른 토큰으로 잡고 자기 토큰일 때만 해제).
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class ScheduleRetentionService {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    
+    @Value("${schedule.retention.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${schedule.retention.recommendation-days:7}")
+    private int recommendationDays;
+    
+    @Value("${schedule.retention.schedule-days:365}")
+    private int scheduleDays;
+    
+    @Value("${schedule.retention.batch-size:1000}")
+    private int batchSize;
+    
+    @Value("${schedule.retention.max-batches:200}")
+    private int maxBatches;
+    
+    private static final String LOCK_KEY = "schedule:retention:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    
+    // 임대가 만료되어 다른 노드가 잡은 잠금은 지우지 않도록 자기 토큰일 때만 삭제
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    
+    private static final String DELETE_RECOMMENDATIONS_SQL =
+            "DELETE FROM tb_schedule_recommendations WHERE target_date < ? LIMIT ?";
+    private static final String SELECT_OLD_SCHEDULE_IDS_SQL =
+            "SELECT id FROM tb_user_schedules WHERE date < ? ORDER BY date LIMIT ?";
+    // 보관 테이블에 같은 id가 이미 있으면 배치 전체를 롤백한다 (IGNORE로 건너뛰면 복사되지 않은 행까지 삭제됨)
+    private static final String ARCHIVE_SCHEDULES_SQL =
+            "INSERT INTO tb_user_schedules_archive (id, user_id, date, start_time, end_time, title, "
+            + "description, type, created_at, updated_at, archived_at) "
+            + "SELECT id, user_id, date, start_time, end_time, title, description, type, created_at, updated_at, ? "
+            + "FROM tb_user_schedules WHERE id IN (%s)";
+    private static final String DELETE_SCHEDULES_SQL =
+            "DELETE FROM tb_user_schedules WHERE id IN (%s)";
+    
+    @Scheduled(cron = "${schedule.retention.cron:0 30 3 * * *}")
+    public void runRetention() {
+        if (!enabled) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        if (!tryLock(token)) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            int purged = purgeRecommendations(today.minusDays(recommendationDays));
+            int archived = archiveSchedules(today.minusDays(scheduleDays));
+            log.info("보존 작업 완료: purgedRecommendations={}, archivedSchedules={}", purged, archived);
+        } catch (Exception e) {
+            log.warn("보존 작업 실패: {}", e.getMessage());
+        } finally {
+            releaseLock(token);
+        }
+    }
+    
+    /**
+     * 대상 날짜가 cutoff 이전인 추천 결과를 batchSize 행씩 삭제
+     */
+    public int purgeRecommendations(LocalDate cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(DELETE_RECOMMENDATIONS_SQL, Date.valueOf(cutoff), batchSize));
+            int count = deleted != null ? deleted : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+    
+    /**
+     * 날짜가 cutoff 이전인 일정을 batchSize 행씩 보관 테이블로 옮긴다 (복사와 삭제는 같은 트랜잭션)
+     */
+    public int archiveSchedules(LocalDate cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = transactionTemplate.execute(status -> moveBatch(cutoff));
+            int count = moved != null ? moved : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+    
+    private int moveBatch(LocalDate cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_OLD_SCHEDULE_IDS_SQL, Long.class,
+                Date.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] archiveArgs = new Object[ids.size() + 1];
+        archiveArgs[0] = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < ids.size(); i++) {
+            archiveArgs[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update(String.format(ARCHIVE_SCHEDULES_SQL, placeholders), archiveArgs);
+        jdbcTemplate.update(String.format(DELETE_SCHEDULES_SQL, placeholders), ids.toArray());
+        return ids.size();
+    }
+    
+    private boolean tryLock(String token) {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("보존 작업 잠금 획득 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+    
+    private void releaseLock(String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), token);
+        } catch (Exception e) {
+            log.warn("보존 작업 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import hyunul.schedly.dto.TimeSlot;
+
+/**
+ * 하루치 멤버별 바쁜 시간대를 슬롯 단위 비트맵으로 압축한 가용성 행렬
+ * 멤버마다 long 배열 한 줄(비트 하나 = 슬롯 하나)을 두고,
+ * 슬롯별 바쁜 인원은 모든 줄의 열 합(column sum)으로 한 번에 계산한다.
+ */
+public final class SlotAvailabilityMatrix {
+
+    private final int windowStartSecond;
+    private final int slotSeconds;
+    private final int slotCount;
+    private final int memberCount;
+    private final int wordsPerMember;
+    private final long[] busyBits;
+
+    public SlotAvailabilityMatrix(int memberCount, LocalTime windowStart, LocalTime windowEnd,
+                                  Duration slotLength) {
+        this.windowStartSecond = windowStart.toSecondOfDay();
+        this.slotSeconds = (int) slotLength.getSeconds();
+        if (slotSeconds <= 0) {
+            throw new IllegalArgumentException("슬롯 길이는 1초 이상이어야 합니다.");
+        }
+        int windowSeconds = windowEnd.toSecondOfDay() - windowStartSecond;
+        this.slotCount = Math.max(0, windowSeconds / slotSeconds);
+        this.memberCount = memberCount;
+        this.wordsPerMember = Math.max(1, (slotCount + 63) >>> 6);
+        this.busyBits = new long[memberCount * wordsPerMember];
+    }
+
+    /**
+     * 멤버의 바쁜 구간 [startSecond, endSecond) 하나를 해당 멤버 줄에 반영 (겹치는 슬롯의 비트를 모두 세운다)
+     */
+    public void markBusy(int member, int startSecond, int endSecond) {
+        if (slotCount == 0) {
+            return;
+        }
+        int from = Math.max(0, Math.floorDiv(startSecond - windowStartSecond, slotSeconds));
+        int to = Math.min(slotCount, -Math.floorDiv(windowStartSecond - endSecond, slotSeconds));
+        if (from < to) {
+            setRange(member * wordsPerMember, from, to);
+        }
+    }
+
+    private void setRange(int rowOffset, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            busyBits[rowOffset + firstWord] |= firstMask & lastMask;
+            return;
+        }
+        busyBits[rowOffset + firstWord] |= firstMask;
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            busyBits[rowOffset + word] = -1L;
+        }
+        busyBits[rowOffset + lastWord] |= lastMask;
+    }
+
+    /**
+     * 슬롯별 참석 가능 인원 (전체 인원 - 해당 슬롯 비트가 선 멤버 수)
+     */
+    public int[] availableCounts() {
+        int[] counts = new int[slotCount];
+        for (int word = 0; word < busyBits.length; word++) {
+            long bits = busyBits[word];
+            int base = (word % wordsPerMember) << 6;
+            while (bits != 0) {
+                counts[base + Long.numberOfTrailingZeros(bits)]++;
+                bits &= bits - 1;
+            }
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            counts[slot] = memberCount - counts[slot];
+        }
+        return counts;
+    }
+
+    public List<TimeSlot> toTimeSlots() {
+        int[] counts = availableCounts();
+        List<TimeSlot> slots = new ArrayList<>(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            slots.add(TimeSlot.builder()
+                    .startTime(slotStart(slot))
+                    .endTime(slotStart(slot + 1))
+                    .availableMembers(counts[slot])
+                    .totalMembers(memberCount)
+                    .build());
+        }
+        return slots;
+    }
+
+    public LocalTime slotStart(int slot) {
+        return LocalTime.ofSecondOfDay(windowStartSecond + (long) slot * slotSeconds);
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+}
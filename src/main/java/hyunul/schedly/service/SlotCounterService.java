@@ -0,0 +1,658 @@
+package hyunul.schedly.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import hyunul.schedly.dto.AnalyzeScheduleRequest;
+import hyunul.schedly.dto.AvailabilityProfile;
+import hyunul.schedly.dto.SlotCounterReconcileResultDto;
+import hyunul.schedly.dto.TimeSlot;
+import hyunul.schedly.entity.RecurringSchedule;
+import hyunul.schedly.entity.UserSchedule;
+import hyunul.schedly.repository.RecurringScheduleRepository;
+import hyunul.schedly.repository.ScheduleIntervalRepository;
+import hyunul.schedly.repository.UserScheduleRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹/날짜별 30분 슬롯 바쁜 인원 카운터
+ * 한 번 만들어진 카운터는 일정 생성/수정/삭제와 멤버 변경 시 해당 슬롯에 ±1만 커밋 후 반영하므로,
+ * 추천 시 DB를 다시 읽지 않고 O(슬롯 수)로 가용 인원을 얻는다.
+ * 격자는 00:00 기준 30분 고정(하루 48칸)이라 멤버 하루치 바쁜 슬롯을 long 하나로 표현한다.
+ * 생성과 델타가 겹치지 않도록 두 가지를 둔다.
+ * - 쓰기는 DB 변경 전에 그룹에 쓰기 중 표시를 남기고, 표시가 남아 있는 동안에는 카운터를 새로 저장하지 않는다.
+ * - 델타 반영(표시 해제)은 그룹 세대 번호를 올리므로, 그 전에 데이터를 읽은 생성은 저장되지 않는다.
+ * 그래서 델타는 카운터가 있을 때만 반영하고, 없으면 버려도 다음 생성이 변경 후 데이터로 만든다.
+ * 반복 일정처럼 영향 날짜가 규칙으로 주어지는 변경은 세대 번호를 올리고 카운터를 지운다 (evict).
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class SlotCounterService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final ScheduleIntervalRepository scheduleIntervalRepository;
+    private final UserScheduleRepository userScheduleRepository;
+    private final RecurringScheduleRepository recurringScheduleRepository;
+
+    @Value("${schedule.analysis.slot-counters.enabled:true}")
+    private boolean enabled;
+
+    @Value("${schedule.analysis.slot-counters.ttl-hours:24}")
+    private long ttlHours;
+
+    // 커밋/롤백 처리 없이 프로세스가 죽어도 생성이 영영 막히지 않도록 쓰기 중 표시에 두는 만료 시간
+    @Value("${schedule.analysis.slot-counters.pending-ttl-seconds:60}")
+    private long pendingTtlSeconds;
+
+    static final int SLOT_SECONDS = 30 * 60;
+    static final int SLOTS_PER_DAY = 24 * 60 * 60 / SLOT_SECONDS;
+
+    private static final String COUNTER_KEY = "schedule:slot-counters:";
+    private static final String ACTIVE_DATES_KEY = "schedule:slot-counters:dates:";
+    private static final String GENERATION_KEY = "schedule:slot-counters:gen:";
+    private static final String PENDING_KEY = "schedule:slot-counters:pending:";
+    private static final String MEMBERS_FIELD = "m";
+
+    // KEYS: 카운터, 활성 날짜, 세대 번호, 쓰기 중 표시 / ARGV: 덮어쓰기 여부, 조회 전 세대 번호, TTL(초), 날짜, 필드/값 쌍...
+    // 그 사이 변경으로 세대 번호가 바뀌었거나 진행 중인 쓰기가 있으면 저장하지 않는다
+    private static final RedisScript<Long> WRITE_COUNTERS = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[2] then
+                return 0
+            end
+            if tonumber(redis.call('GET', KEYS[4]) or '0') > 0 then
+                return 0
+            end
+            if ARGV[1] ~= '1' and redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 5, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: 그룹별 쓰기 중 표시..., 존재를 확인할 카운터... / ARGV: 표시 TTL(초), 그룹 수
+    // 표시를 올린 뒤 이미 있는 카운터 수를 돌려준다 (0이면 변경 전 상태를 읽을 필요가 없다)
+    private static final RedisScript<Long> MARK_WRITES = new DefaultRedisScript<>("""
+            local groups = tonumber(ARGV[2])
+            for i = 1, groups do
+                redis.call('INCR', KEYS[i])
+                redis.call('EXPIRE', KEYS[i], ARGV[1])
+            end
+            local existing = 0
+            for i = groups + 1, #KEYS do
+                existing = existing + redis.call('EXISTS', KEYS[i])
+            end
+            return existing
+            """, Long.class);
+
+    // KEYS: 그룹마다 (세대 번호, 쓰기 중 표시, 날짜별 카운터...) / ARGV: 날짜 수, TTL(초), 날짜별 델타("필드:증감" 공백 구분)...
+    // 그룹마다 표시를 하나 내리고 세대 번호를 올린 뒤, 있는 카운터에만 델타를 반영한다
+    static final RedisScript<Long> APPLY_DELTAS = new DefaultRedisScript<>("""
+            local dates = tonumber(ARGV[1])
+            local block = dates + 2
+            for base = 0, #KEYS - block, block do
+                if tonumber(redis.call('GET', KEYS[base + 2]) or '0') > 1 then
+                    redis.call('DECR', KEYS[base + 2])
+                else
+                    redis.call('DEL', KEYS[base + 2])
+                end
+                redis.call('INCR', KEYS[base + 1])
+                redis.call('EXPIRE', KEYS[base + 1], ARGV[2])
+                for i = 1, dates do
+                    local key = KEYS[base + 2 + i]
+                    if ARGV[2 + i] ~= '' and redis.call('EXISTS', key) == 1 then
+                        for field, delta in string.gmatch(ARGV[2 + i], '(%w+):(%-?%d+)') do
+                            redis.call('HINCRBY', key, field, delta)
+                        end
+                    end
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: 세대 번호, 활성 날짜, 삭제할 카운터... / ARGV: TTL(초), 활성 날짜에서 뺄 날짜...
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            for i = 3, #KEYS do
+                redis.call('DEL', KEYS[i])
+            end
+            if #ARGV > 1 then
+                redis.call('SREM', KEYS[2], unpack(ARGV, 2))
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 슬롯 모드이면서 검색 시간대가 30분 격자에 맞을 때만 카운터로 응답할 수 있다
+     */
+    public boolean supports(AnalyzeScheduleRequest request) {
+        return enabled
+                && request.getMode() == AnalyzeScheduleRequest.AnalysisMode.SLOT
+                && isOnGrid(request.getPreferredStartTime())
+                && isOnGrid(request.getPreferredEndTime());
+    }
+
+    public Counters getCounters(Long groupId, LocalDate date) {
+        try {
+            Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(counterKey(groupId, date));
+            return fields.isEmpty() ? null : toCounters(fields);
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 그룹 카운터 세대 번호 - 카운터를 만들 데이터를 읽기 전에 조회해 build에 넘긴다 (조회 실패 시 -1)
+     */
+    public long generation(Long groupId) {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY + groupId);
+            return generation != null ? Long.parseLong(generation) : 0L;
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 세대 조회 실패: {}", e.getMessage());
+            return -1L;
+        }
+    }
+
+    /**
+     * 가용성 프로필로 카운터를 만들어 저장 (이미 있거나, 그 사이 세대 번호가 바뀌었거나, 진행 중인 쓰기가 있으면 저장하지 않음)
+     */
+    public Counters build(Long groupId, AvailabilityProfile profile, long generation) {
+        long[] memberMasks = new long[profile.getTotalMembers()];
+        int[] members = profile.getMemberIndexes();
+        for (int i = 0; i < members.length; i++) {
+            memberMasks[members[i]] |= busyMask(profile.getStartSeconds()[i], profile.getEndSeconds()[i]);
+        }
+        Counters counters = Counters.of(memberMasks);
+        write(groupId, profile.getDate(), counters, false, generation);
+        return counters;
+    }
+
+    /**
+     * 일정 생성/수정/삭제 전(DB 변경 전) 호출 - 사용자가 속한 그룹에 쓰기 중 표시를 남기고,
+     * 해당 날짜 카운터가 있으면 변경 전 바쁜 슬롯을 기록한다 (카운터가 없으면 DB 조회 생략)
+     * 표시는 트랜잭션이 끝날 때 델타 반영(커밋) 또는 해제(롤백)와 함께 내려간다.
+     */
+    public MemberDaySnapshot snapshot(Long userId, Collection<LocalDate> dates) {
+        if (!enabled || dates.isEmpty()) {
+            return MemberDaySnapshot.EMPTY;
+        }
+        Set<Long> groupIds;
+        try {
+            groupIds = groupMembershipIndex.getGroupIds(userId);
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 대상 그룹 조회 실패: {}", e.getMessage());
+            return MemberDaySnapshot.EMPTY;
+        }
+        if (groupIds.isEmpty()) {
+            return MemberDaySnapshot.EMPTY;
+        }
+        MemberDaySnapshot snapshot = new MemberDaySnapshot(
+                userId, List.copyOf(groupIds), dates.stream().distinct().sorted().toList());
+        long existing = markWrites(snapshot.groupIds, snapshot.dates);
+        if (existing < 0) {
+            return snapshot;
+        }
+        if (!AfterCommit.onCompletion(() -> complete(snapshot), () -> release(snapshot.groupIds))) {
+            release(snapshot.groupIds);
+            return snapshot;
+        }
+        snapshot.marked = true;
+        if (existing > 0) {
+            snapshot.before = userDayMasks(userId, snapshot.dates);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 일정 변경 후(같은 트랜잭션 안에서) 호출 - 변경 전후 바쁜 슬롯 차이를 계산해 두고 커밋 후 반영
+     * 표시를 남기지 못한 경우(Redis 장애 등)에는 델타 대신 커밋 후 카운터를 지운다.
+     */
+    public void applyChanges(MemberDaySnapshot snapshot) {
+        if (snapshot.groupIds.isEmpty()) {
+            return;
+        }
+        if (!snapshot.marked) {
+            evictAfterCommit(snapshot.groupIds, snapshot.dates);
+            return;
+        }
+        if (snapshot.before == null) {
+            // 카운터가 없던 날짜 - 커밋 후 표시만 내린다 (표시 중에는 생성되지 않으므로 반영할 카운터도 없다)
+            return;
+        }
+        Map<LocalDate, Long> after = userDayMasks(snapshot.userId, snapshot.dates);
+        snapshot.deltas = snapshot.dates.stream()
+                .map(date -> encodeDelta(snapshot.before.get(date), after.get(date), 0))
+                .toList();
+    }
+
+    /**
+     * 멤버 추가(+1)/제거(-1) 시 그룹의 활성 날짜 카운터에 인원 수와 해당 멤버의 바쁜 슬롯을 커밋 후 반영
+     */
+    public void applyMembershipChange(Long groupId, Long userId, int sign) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> groupIds = List.of(groupId);
+        if (markWrites(groupIds, List.of()) < 0) {
+            evict(groupId, date -> true);
+            return;
+        }
+        List<LocalDate> dates;
+        try {
+            // 표시 이후에는 새 날짜가 생기지 않으므로 지금의 활성 날짜가 반영 대상 전부다
+            Set<String> activeDates = stringRedisTemplate.opsForSet().members(ACTIVE_DATES_KEY + groupId);
+            dates = activeDates == null ? List.of() : activeDates.stream().map(LocalDate::parse).sorted().toList();
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 활성 날짜 조회 실패: {}", e.getMessage());
+            release(groupIds);
+            evict(groupId, date -> true);
+            return;
+        }
+        MemberDaySnapshot change = new MemberDaySnapshot(userId, groupIds, dates);
+        boolean deferred = AfterCommit.onCompletion(() -> complete(change), () -> release(groupIds));
+        change.marked = true;
+        if (!dates.isEmpty()) {
+            // 멤버 자신의 일정은 이 트랜잭션에서 바뀌지 않으므로 한 번만 읽는다
+            change.before = userDayMasks(userId, dates);
+            change.deltas = dates.stream()
+                    .map(date -> {
+                        long mask = change.before.get(date);
+                        return sign > 0 ? encodeDelta(0L, mask, 1) : encodeDelta(mask, 0L, -1);
+                    })
+                    .toList();
+        }
+        if (!deferred) {
+            complete(change);
+        }
+    }
+
+    /**
+     * DB(tb_user_schedules) 기준으로 다시 계산해 카운터와 비교하고, 다르거나 없으면 다시 기록
+     */
+    public SlotCounterReconcileResultDto reconcile(Long groupId, LocalDate date) {
+        long generation = generation(groupId);
+        // 멤버(일정 없는 멤버 포함)별 바쁜 슬롯 비트를 단건 일정/반복 규칙 조회로 계산
+        Map<Long, Long> masksByUser = new HashMap<>();
+        scheduleIntervalRepository.forEachGroupBusyInterval(groupId, date, date,
+                (memberId, ignored, startSecond, endSecond) ->
+                        masksByUser.merge(memberId, busyMask(startSecond, endSecond), (x, y) -> x | y));
+        long[] memberMasks = masksByUser.values().stream().mapToLong(Long::longValue).toArray();
+        Counters expected = Counters.of(memberMasks);
+
+        Counters actual = getCounters(groupId, date);
+        int mismatched = actual == null ? 0 : expected.countDifferences(actual);
+        boolean repaired = false;
+        if (actual == null || mismatched > 0) {
+            // 진행 중인 쓰기가 있거나 그 사이 변경이 있었으면 기록하지 않는다 (다음 점검이나 생성에 맡김)
+            repaired = write(groupId, date, expected, true, generation);
+            log.info("슬롯 카운터 재구성: groupId={}, date={}, mismatched={}, written={}",
+                    groupId, date, mismatched, repaired);
+        }
+
+        return SlotCounterReconcileResultDto.builder()
+                .groupId(groupId)
+                .date(date)
+                .existed(actual != null)
+                .mismatchedFields(mismatched)
+                .repaired(repaired)
+                .build();
+    }
+
+    /**
+     * 그룹의 활성 날짜 중 affected에 해당하는 카운터를 커밋 후 삭제
+     * 반복 일정처럼 영향 날짜가 규칙으로 주어지는 변경용이며, 삭제된 카운터는 다음 조회 때 다시 만든다.
+     */
+    public void evict(Long groupId, Predicate<LocalDate> affected) {
+        if (!enabled) {
+            return;
+        }
+        String generationKey = GENERATION_KEY + groupId;
+        String datesKey = ACTIVE_DATES_KEY + groupId;
+        AfterCommit.run(() -> {
+            try {
+                // 세대 번호를 먼저 올려, 활성 날짜를 읽은 뒤 끝나는 이전 생성이 저장되지 않게 한다
+                invalidate(List.of(generationKey, datesKey), List.of());
+                Set<String> activeDates = stringRedisTemplate.opsForSet().members(datesKey);
+                if (activeDates == null) {
+                    return;
+                }
+                List<String> removed = activeDates.stream()
+                        .filter(date -> affected.test(LocalDate.parse(date)))
+                        .toList();
+                if (removed.isEmpty()) {
+                    return;
+                }
+                List<String> keys = new ArrayList<>(List.of(generationKey, datesKey));
+                removed.forEach(date -> keys.add(counterKey(groupId, LocalDate.parse(date))));
+                invalidate(keys, removed);
+            } catch (Exception e) {
+                log.warn("슬롯 카운터 삭제 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 그룹의 활성 날짜 카운터 전체 점검
+     */
+    public List<SlotCounterReconcileResultDto> reconcileGroup(Long groupId) {
+        Set<String> activeDates = stringRedisTemplate.opsForSet().members(ACTIVE_DATES_KEY + groupId);
+        if (activeDates == null) {
+            return List.of();
+        }
+        return activeDates.stream()
+                .map(LocalDate::parse)
+                .sorted()
+                .map(date -> reconcile(groupId, date))
+                .toList();
+    }
+
+    private void invalidate(List<String> keys, List<String> removedDates) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlHours * 3600));
+        args.addAll(removedDates);
+        try {
+            stringRedisTemplate.execute(INVALIDATE, keys, args.toArray());
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean write(Long groupId, LocalDate date, Counters counters, boolean overwrite, long generation) {
+        if (generation < 0) {
+            return false;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(overwrite ? "1" : "0");
+        args.add(String.valueOf(generation));
+        args.add(String.valueOf(ttlHours * 3600));
+        args.add(date.toString());
+        args.add(MEMBERS_FIELD);
+        args.add(String.valueOf(counters.getTotalMembers()));
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            if (counters.getBusy()[slot] != 0) {
+                args.add(String.valueOf(slot));
+                args.add(String.valueOf(counters.getBusy()[slot]));
+            }
+        }
+        try {
+            Long written = stringRedisTemplate.execute(WRITE_COUNTERS,
+                    List.of(counterKey(groupId, date), ACTIVE_DATES_KEY + groupId,
+                            GENERATION_KEY + groupId, PENDING_KEY + groupId),
+                    args.toArray());
+            return written != null && written == 1L;
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 저장 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 그룹들에 쓰기 중 표시를 올리고 이미 있는 카운터 수를 돌려준다 (실패 시 -1)
+     */
+    private long markWrites(List<Long> groupIds, List<LocalDate> dates) {
+        List<String> keys = new ArrayList<>();
+        groupIds.forEach(groupId -> keys.add(PENDING_KEY + groupId));
+        for (Long groupId : groupIds) {
+            dates.forEach(date -> keys.add(counterKey(groupId, date)));
+        }
+        try {
+            Long existing = stringRedisTemplate.execute(MARK_WRITES, keys,
+                    String.valueOf(pendingTtlSeconds), String.valueOf(groupIds.size()));
+            return existing != null ? existing : -1L;
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 쓰기 표시 실패: {}", e.getMessage());
+            return -1L;
+        }
+    }
+
+    /**
+     * 커밋 후 - 계산해 둔 델타를 반영하며 표시를 내린다
+     * 변경 전 상태는 읽었는데 변경 후 델타가 없으면(applyChanges 누락) 반영 대신 카운터를 지운다.
+     */
+    private void complete(MemberDaySnapshot snapshot) {
+        if (snapshot.before == null) {
+            release(snapshot.groupIds);
+            return;
+        }
+        if (snapshot.deltas == null) {
+            release(snapshot.groupIds);
+            evictNow(snapshot.groupIds, snapshot.dates);
+            return;
+        }
+        if (!applyDeltas(snapshot.groupIds, snapshot.dates, snapshot.deltas)) {
+            // 반영 여부를 알 수 없으므로 카운터를 지워 다음 생성에 맡긴다
+            evictNow(snapshot.groupIds, snapshot.dates);
+        }
+    }
+
+    /**
+     * 롤백 또는 반영할 카운터가 없을 때 - 표시만 내린다 (세대 번호는 올라간다)
+     */
+    private void release(List<Long> groupIds) {
+        applyDeltas(groupIds, List.of(), List.of());
+    }
+
+    private boolean applyDeltas(List<Long> groupIds, List<LocalDate> dates, List<String> deltas) {
+        List<String> keys = new ArrayList<>(groupIds.size() * (dates.size() + 2));
+        for (Long groupId : groupIds) {
+            keys.add(GENERATION_KEY + groupId);
+            keys.add(PENDING_KEY + groupId);
+            dates.forEach(date -> keys.add(counterKey(groupId, date)));
+        }
+        List<String> args = new ArrayList<>(deltas.size() + 2);
+        args.add(String.valueOf(dates.size()));
+        args.add(String.valueOf(ttlHours * 3600));
+        args.addAll(deltas);
+        try {
+            stringRedisTemplate.execute(APPLY_DELTAS, keys, args.toArray());
+            return true;
+        } catch (Exception e) {
+            log.warn("슬롯 카운터 갱신 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void evictAfterCommit(List<Long> groupIds, List<LocalDate> dates) {
+        AfterCommit.run(() -> evictNow(groupIds, dates));
+    }
+
+    private void evictNow(List<Long> groupIds, List<LocalDate> dates) {
+        List<String> removed = dates.stream().map(LocalDate::toString).toList();
+        for (Long groupId : groupIds) {
+            List<String> keys = new ArrayList<>();
+            keys.add(GENERATION_KEY + groupId);
+            keys.add(ACTIVE_DATES_KEY + groupId);
+            dates.forEach(date -> keys.add(counterKey(groupId, date)));
+            invalidate(keys, removed);
+        }
+    }
+
+    /**
+     * 사용자의 날짜별 바쁜 슬롯 (단건 BUSY 일정 + BUSY 반복 규칙 발생분, 쓰기 트랜잭션 안에서 원본 기준)
+     */
+    private Map<LocalDate, Long> userDayMasks(Long userId, List<LocalDate> dates) {
+        Map<LocalDate, Long> masks = new HashMap<>();
+        dates.forEach(date -> masks.put(date, 0L));
+        LocalDate first = dates.get(0);
+        LocalDate last = dates.get(dates.size() - 1);
+        for (UserSchedule schedule : userScheduleRepository.findByUserIdAndDateBetween(userId, first, last)) {
+            if (schedule.getType() == UserSchedule.ScheduleType.BUSY && masks.containsKey(schedule.getDate())) {
+                masks.merge(schedule.getDate(),
+                        busyMask(schedule.getStartTime(), schedule.getEndTime()), (a, b) -> a | b);
+            }
+        }
+        for (RecurringSchedule rule : recurringScheduleRepository.findActiveBetween(userId, first, last)) {
+            if (rule.getType() != UserSchedule.ScheduleType.BUSY) {
+                continue;
+            }
+            long mask = busyMask(rule.getStartTime(), rule.getEndTime());
+            for (LocalDate date : rule.occurrencesBetween(first, last)) {
+                if (masks.containsKey(date)) {
+                    masks.merge(date, mask, (a, b) -> a | b);
+                }
+            }
+        }
+        return masks;
+    }
+
+    private static long busyMask(LocalTime start, LocalTime end) {
+        return busyMask(start.toSecondOfDay(), end.toSecondOfDay() + (end.getNano() > 0 ? 1 : 0));
+    }
+
+    /**
+     * [startSecond, endSecond) 와 겹치는 슬롯 비트 (슬롯 행렬과 같은 겹침 기준)
+     */
+    static long busyMask(int startSecond, int endSecond) {
+        int from = Math.max(0, startSecond / SLOT_SECONDS);
+        int to = Math.min(SLOTS_PER_DAY, (endSecond + SLOT_SECONDS - 1) / SLOT_SECONDS);
+        if (from >= to) {
+            return 0L;
+        }
+        return (-1L << from) & ((1L << to) - 1);
+    }
+
+    /**
+     * 변경 전후 바쁜 슬롯과 인원 증감을 "필드:증감" 목록으로 (새로 바빠진 슬롯 +1, 비게 된 슬롯 -1)
+     */
+    static String encodeDelta(long before, long after, int memberDelta) {
+        StringBuilder delta = new StringBuilder();
+        if (memberDelta != 0) {
+            delta.append(MEMBERS_FIELD).append(':').append(memberDelta);
+        }
+        appendSlots(delta, after & ~before, 1);
+        appendSlots(delta, before & ~after, -1);
+        return delta.toString();
+    }
+
+    private static void appendSlots(StringBuilder delta, long mask, int change) {
+        while (mask != 0) {
+            if (!delta.isEmpty()) {
+                delta.append(' ');
+            }
+            delta.append(Long.numberOfTrailingZeros(mask)).append(':').append(change);
+            mask &= mask - 1;
+        }
+    }
+
+    private static int[] sumBits(long[] masks) {
+        int[] busy = new int[SLOTS_PER_DAY];
+        for (long mask : masks) {
+            while (mask != 0) {
+                busy[Long.numberOfTrailingZeros(mask)]++;
+                mask &= mask - 1;
+            }
+        }
+        return busy;
+    }
+
+    private static Counters toCounters(Map<Object, Object> fields) {
+        int totalMembers = 0;
+        int[] busy = new int[SLOTS_PER_DAY];
+        for (Map.Entry<Object, Object> field : fields.entrySet()) {
+            int value = Integer.parseInt((String) field.getValue());
+            if (MEMBERS_FIELD.equals(field.getKey())) {
+                totalMembers = value;
+            } else {
+                busy[Integer.parseInt((String) field.getKey())] = value;
+            }
+        }
+        return new Counters(totalMembers, busy);
+    }
+
+    private static boolean isOnGrid(LocalTime time) {
+        return time.getNano() == 0 && time.toSecondOfDay() % SLOT_SECONDS == 0;
+    }
+
+    private static String counterKey(Long groupId, LocalDate date) {
+        return COUNTER_KEY + groupId + ":" + date;
+    }
+
+    /**
+     * 그룹/날짜의 전체 인원과 슬롯별 바쁜 인원
+     */
+    @Getter @AllArgsConstructor
+    public static class Counters {
+        private final int totalMembers;
+        private final int[] busy;
+
+        /**
+         * 멤버별 하루치 바쁜 슬롯 비트로 구성 (배열 길이가 전체 인원)
+         */
+        static Counters of(long[] memberMasks) {
+            return new Counters(memberMasks.length, sumBits(memberMasks));
+        }
+
+        /**
+         * 검색 시간대(30분 격자)의 슬롯별 가용 인원
+         */
+        public List<TimeSlot> toTimeSlots(LocalTime windowStart, LocalTime windowEnd) {
+            int from = windowStart.toSecondOfDay() / SLOT_SECONDS;
+            int to = windowEnd.toSecondOfDay() / SLOT_SECONDS;
+            List<TimeSlot> slots = new ArrayList<>(Math.max(0, to - from));
+            for (int slot = from; slot < to; slot++) {
+                slots.add(TimeSlot.builder()
+                        .startTime(LocalTime.ofSecondOfDay((long) slot * SLOT_SECONDS))
+                        .endTime(LocalTime.ofSecondOfDay((long) (slot + 1) * SLOT_SECONDS))
+                        .availableMembers(Math.max(0, totalMembers - busy[slot]))
+                        .totalMembers(totalMembers)
+                        .build());
+            }
+            return slots;
+        }
+
+        int countDifferences(Counters other) {
+            int differences = totalMembers != other.totalMembers ? 1 : 0;
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                if (busy[slot] != other.busy[slot]) {
+                    differences++;
+                }
+            }
+            return differences;
+        }
+    }
+
+    /**
+     * 진행 중인 쓰기 하나 - 대상 그룹/날짜, 변경 전 바쁜 슬롯(카운터가 있을 때만), 커밋 후 반영할 날짜별 델타
+     */
+    public static class MemberDaySnapshot {
+        static final MemberDaySnapshot EMPTY = new MemberDaySnapshot(null, List.of(), List.of());
+
+        private final Long userId;
+        private final List<Long> groupIds;
+        private final List<LocalDate> dates;
+        private boolean marked;
+        private Map<LocalDate, Long> before;
+        private List<String> deltas;
+
+        private MemberDaySnapshot(Long userId, List<Long> groupIds, List<LocalDate> dates) {
+            this.userId = userId;
+            this.groupIds = groupIds;
+            this.dates = dates;
+        }
+    }
+}
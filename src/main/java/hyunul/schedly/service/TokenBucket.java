@@ -0,0 +1,36 @@
+package hyunul.schedly.service;
+
+import java.time.Duration;
+
+/**
+ * 프로세스 내 토큰 버킷 - 최대 capacity개까지 쌓이고 refillPeriod마다 capacity개 비율로 다시 채워진다
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, Duration refillPeriod) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriod.toNanos();
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다 - 성공하면 0, 비어 있으면 다음 토큰까지 남은 시간(ns)
+     */
+    public synchronized long tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,156 @@
+package hyunul.schedly.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폐기된 토큰 ID(jti) 목록
+ * 원본은 Redis ZSET(점수 = 토큰 만료 시각)이고, 각 노드는 전체 목록을 메모리에 두고 조회한다.
+ * 새 폐기는 pub/sub으로 즉시 전파되고, 주기적 동기화로 놓친 메시지와 만료된 항목을 정리한다.
+ * jti 도입 전 방식(jwt:blacklist:{토큰})의 폐기 기록은 남아 있는 동안 토큰 다이제스트 ID로 옮겨 온다.
+ */
+@Service
+@RequiredArgsConstructor @Slf4j
+public class TokenRevocationStore implements MessageListener {
+    
+    public static final String REVOCATION_CHANNEL = "jwt:revocations";
+    private static final String REVOKED_KEY = "jwt:revoked";
+    private static final String SEPARATOR = "|";
+    
+    // 이전 방식 키는 RedisTemplate의 JSON 직렬화 때문에 따옴표로 감싼 문자열로 저장되어 있다
+    private static final String LEGACY_BLACKLIST_PREFIX = "jwt:blacklist:";
+    private static final String LEGACY_BLACKLIST_PATTERN = "*" + LEGACY_BLACKLIST_PREFIX + "*";
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    
+    // jti → 토큰 만료 시각(ms)
+    private volatile Map<String, Long> revoked = new ConcurrentHashMap<>();
+    
+    // 이전 방식 키가 더 이상 없으면 검색을 멈춘다 (이전 버전 노드가 남아 있는 동안은 계속 옮긴다)
+    private volatile boolean legacyImportPending = true;
+    
+    @PostConstruct
+    void init() {
+        sync();
+    }
+    
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+    
+    /**
+     * 이 노드에 바로 반영하고, Redis에 기록한 뒤 다른 노드에 알린다
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        try {
+            stringRedisTemplate.opsForZSet().add(REVOKED_KEY, tokenId, expiresAt);
+            stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId + SEPARATOR + expiresAt);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 전파 실패: {}", e.getMessage());
+        }
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        try {
+            revoked.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+        }
+    }
+    
+    /**
+     * 만료된 항목을 Redis에서 지우고 남은 목록으로 로컬 집합을 교체
+     * Redis 장애 중에는 마지막으로 동기화한 목록을 계속 쓴다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-ms:30000}", initialDelayString = "${jwt.revocation.sync-ms:30000}")
+    public void sync() {
+        if (legacyImportPending) {
+            importLegacyBlacklist();
+        }
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<TypedTuple<String>> entries = stringRedisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+            
+            Map<String, Long> latest = new ConcurrentHashMap<>();
+            if (entries != null) {
+                for (TypedTuple<String> entry : entries) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        latest.put(entry.getValue(), entry.getScore().longValue());
+                    }
+                }
+            }
+            // 동기화 중 pub/sub으로 받은 항목이 빠지지 않도록 아직 유효한 로컬 항목은 유지
+            revoked.forEach((tokenId, expiresAt) -> {
+                if (expiresAt > now) {
+                    latest.putIfAbsent(tokenId, expiresAt);
+                }
+            });
+            revoked = latest;
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * jwt:blacklist:{토큰} 키를 토큰 다이제스트 ID(남은 TTL 기준 만료 시각)로 jwt:revoked에 추가
+     * 이전 키는 토큰 만료와 함께 사라지므로 지우지 않는다.
+     */
+    private void importLegacyBlacklist() {
+        long now = System.currentTimeMillis();
+        int found = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_BLACKLIST_PATTERN).count(500).build();
+        try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                Long ttlMillis = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis == null || ttlMillis <= 0) {
+                    continue;
+                }
+                found++;
+                stringRedisTemplate.opsForZSet().add(REVOKED_KEY,
+                        JwtService.digest(legacyToken(key)), now + ttlMillis);
+            }
+        } catch (Exception e) {
+            log.warn("이전 토큰 블랙리스트 이전 실패: {}", e.getMessage());
+            return;
+        }
+        if (found > 0) {
+            log.info("이전 토큰 블랙리스트 이전: {}건", found);
+        } else {
+            legacyImportPending = false;
+        }
+    }
+    
+    static String legacyToken(String key) {
+        String unquoted = key.length() > 1 && key.startsWith("\"") && key.endsWith("\"")
+                ? key.substring(1, key.length() - 1)
+                : key;
+        return unquoted.substring(unquoted.indexOf(LEGACY_BLACKLIST_PREFIX) + LEGACY_BLACKLIST_PREFIX.length());
+    }
+}
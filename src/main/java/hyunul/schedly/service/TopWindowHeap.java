@@ -0,0 +1,94 @@
+package hyunul.schedly.service;
+
+/**
+ * 후보 구간 상위 N개를 유지하는 고정 크기 힙 (루트 = 현재 가장 낮은 순위)
+ * 순위는 가용 인원이 많을수록, 같으면 시작이 이를수록 높다.
+ */
+final class TopWindowHeap {
+
+    private final int[] available;
+    private final int[] start;
+    private int size;
+
+    TopWindowHeap(int capacity) {
+        this.available = new int[capacity];
+        this.start = new int[capacity];
+    }
+
+    /**
+     * 후보 추가 (시작 위치가 증가하는 순서로 호출해야 동점 처리가 유지된다)
+     */
+    void offer(int availableMembers, int windowStart) {
+        if (size < available.length) {
+            available[size] = availableMembers;
+            start[size] = windowStart;
+            siftUp(size++);
+        } else if (size > 0 && availableMembers > available[0]) {
+            available[0] = availableMembers;
+            start[0] = windowStart;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int lowestAvailable() {
+        return available[0];
+    }
+
+    int lowestStart() {
+        return start[0];
+    }
+
+    void removeLowest() {
+        size--;
+        available[0] = available[size];
+        start[0] = start[size];
+        siftDown(0);
+    }
+
+    private boolean ranksLower(int a, int b) {
+        return available[a] < available[b] || (available[a] == available[b] && start[a] > start[b]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksLower(index, parent)) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = (index << 1) + 1;
+            if (left >= size) {
+                return;
+            }
+            int lowest = left;
+            int right = left + 1;
+            if (right < size && ranksLower(right, left)) {
+                lowest = right;
+            }
+            if (!ranksLower(lowest, index)) {
+                return;
+            }
+            swap(index, lowest);
+            index = lowest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int tmpAvailable = available[a];
+        available[a] = available[b];
+        available[b] = tmpAvailable;
+        int tmpStart = start[a];
+        start[a] = start[b];
+        start[b] = tmpStart;
+    }
+}
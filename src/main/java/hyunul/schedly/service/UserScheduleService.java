@@ -1,19 +1,42 @@
 package hyunul.schedly.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import hyunul.schedly.dto.BulkScheduleRequest;
+import hyunul.schedly.dto.BulkScheduleResultDto;
 import hyunul.schedly.dto.CreateScheduleRequest;
+import hyunul.schedly.dto.CursorPageDto;
 import hyunul.schedly.dto.UpdateScheduleRequest;
 import hyunul.schedly.dto.UserScheduleDto;
+import hyunul.schedly.entity.RecurringSchedule;
 import hyunul.schedly.entity.User;
 import hyunul.schedly.entity.UserSchedule;
+import hyunul.schedly.repository.RecurringScheduleRepository;
+import hyunul.schedly.repository.UserScheduleBatchRepository;
 import hyunul.schedly.repository.UserScheduleRepository;
+import hyunul.schedly.repository.UserScheduleStreamRepository;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,34 +46,106 @@ import lombok.extern.slf4j.Slf4j;
 public class UserScheduleService {
     
     private final UserScheduleRepository userScheduleRepository;
-    private final ScheduleAnalysisService scheduleAnalysisService;
+    private final UserScheduleBatchRepository userScheduleBatchRepository;
+    private final RecurringScheduleRepository recurringScheduleRepository;
+    private final UserScheduleStreamRepository userScheduleStreamRepository;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final RecommendationCacheService recommendationCacheService;
+    private final SlotCounterService slotCounterService;
+    private final ObjectMapper objectMapper;
     
     public UserScheduleDto createSchedule(Long userId, CreateScheduleRequest request) {
-        UserSchedule schedule = UserSchedule.builder()
-                .user(User.builder().id(userId).build())
-                .date(request.getDate())
-                .startTime(request.getStartTime())
-                .endTime(request.getEndTime())
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .type(request.getType() != null ? request.getType() : UserSchedule.ScheduleType.BUSY)
-                .build();
+        SlotCounterService.MemberDaySnapshot counters = slotCounterService.snapshot(userId, Set.of(request.getDate()));
+        UserSchedule saved = userScheduleRepository.save(toEntity(userId, request));
         
-        UserSchedule saved = userScheduleRepository.save(schedule);
-        
-        // 관련 그룹들의 추천 캐시 무효화
-        invalidateRelatedRecommendations(userId, request.getDate());
+        // 관련 그룹들의 슬롯 카운터 갱신 및 추천 캐시 무효화
+        slotCounterService.applyChanges(counters);
+        invalidateRelatedRecommendations(userId, Set.of(request.getDate()));
         
         return convertToDto(saved);
     }
     
-    public List<UserScheduleDto> getUserSchedules(Long userId, LocalDate startDate, LocalDate endDate) {
-        List<UserSchedule> schedules = userScheduleRepository
-                .findByUserIdAndDateBetween(userId, startDate, endDate);
+    /**
+     * 기간 내 일정 (date, startTime, id) 순 키셋 페이지
+     * 반복 일정 발생분은 커서 날짜부터 이번 페이지가 닿는 날짜까지, 페이지가 찰 때까지만 펼쳐 단건 일정 사이에 끼워 넣는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserScheduleDto> getUserSchedules(Long userId, LocalDate startDate, LocalDate endDate,
+                                                           String cursor, int size) {
+        ScheduleCursor after = cursor != null && !cursor.isBlank()
+                ? ScheduleCursor.decode(cursor)
+                : new ScheduleCursor(startDate.minusDays(1), LocalTime.MIN, Long.MIN_VALUE);
+        LocalDate from = after.date().isBefore(startDate) ? startDate : after.date();
+        
+        List<UserSchedule> schedules = userScheduleRepository.findPageAfter(userId, startDate, endDate,
+                after.date(), after.time(), after.id(), PageRequest.of(0, size + 1));
+        
+        // 단건이 페이지를 넘치면 마지막 행 날짜 이후 발생분은 이번 페이지에 들어올 수 없다
+        LocalDate horizon = schedules.size() > size ? schedules.get(size).getDate() : endDate;
+        List<UserScheduleDto> merged = new ArrayList<>(size + 1);
+        RecurringOccurrenceMerger occurrences = new RecurringOccurrenceMerger(
+                recurringScheduleRepository.findActiveBetween(userId, from, horizon), from, horizon, this::convertToDto,
+                () -> merged.size() > size);
+        
+        Consumer<UserScheduleDto> sink = schedule -> {
+            if (merged.size() <= size && after.isBefore(schedule)) {
+                merged.add(schedule);
+            }
+        };
+        for (UserSchedule schedule : schedules) {
+            if (merged.size() > size) {
+                break;
+            }
+            UserScheduleDto dto = convertToDto(schedule);
+            occurrences.drainBefore(dto, sink);
+            sink.accept(dto);
+        }
+        occurrences.drainAll(sink);
         
-        return schedules.stream()
-                .map(this::convertToDto)
-                .toList();
+        boolean hasNext = merged.size() > size;
+        List<UserScheduleDto> items = hasNext ? merged.subList(0, size) : merged;
+        return CursorPageDto.<UserScheduleDto>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ScheduleCursor.of(items.get(items.size() - 1)).encode() : null)
+                .build();
+    }
+    
+    /**
+     * 기간 내 일정 전체를 JSON 응답 형식({"success", "data": [...]})으로 바로 써 내려간다
+     * 서버 커서로 읽은 행을 하나씩 직렬화하므로 기간 길이와 무관하게 메모리가 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void streamUserSchedules(Long userId, LocalDate startDate, LocalDate endDate,
+                                    OutputStream out) throws IOException {
+        RecurringOccurrenceMerger occurrences = new RecurringOccurrenceMerger(
+                recurringScheduleRepository.findActiveBetween(userId, startDate, endDate),
+                startDate, endDate, this::convertToDto);
+        
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeBooleanField("success", true);
+            json.writeArrayFieldStart("data");
+            Consumer<UserScheduleDto> sink = schedule -> {
+                try {
+                    json.writeObject(schedule);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            try {
+                userScheduleStreamRepository.forEachInRange(userId, startDate, endDate, schedule -> {
+                    occurrences.drainBefore(schedule, sink);
+                    sink.accept(schedule);
+                });
+                occurrences.drainAll(sink);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            json.writeEndArray();
+            json.writeStringField("timestamp", LocalDateTime.now().toString());
+            json.writeEndObject();
+        }
     }
     
     public UserScheduleDto updateSchedule(Long scheduleId, Long userId, UpdateScheduleRequest request) {
@@ -62,22 +157,20 @@ public class UserScheduleService {
         }
         
         LocalDate originalDate = schedule.getDate();
+        LocalDate newDate = request.getDate() != null ? request.getDate() : originalDate;
+        Set<LocalDate> affectedDates = originalDate.equals(newDate)
+                ? Set.of(originalDate)
+                : Set.of(originalDate, newDate);
         
-        // 스케줄 업데이트
-        if (request.getDate() != null) schedule.setDate(request.getDate());
-        if (request.getStartTime() != null) schedule.setStartTime(request.getStartTime());
-        if (request.getEndTime() != null) schedule.setEndTime(request.getEndTime());
-        if (request.getTitle() != null) schedule.setTitle(request.getTitle());
-        if (request.getDescription() != null) schedule.setDescription(request.getDescription());
-        if (request.getType() != null) schedule.setType(request.getType());
+        // 스케줄 업데이트 (변경 전 바쁜 슬롯은 카운터 갱신용으로 먼저 기록)
+        SlotCounterService.MemberDaySnapshot counters = slotCounterService.snapshot(userId, affectedDates);
+        applyChanges(schedule, request);
         
         UserSchedule updated = userScheduleRepository.save(schedule);
         
-        // 캐시 무효화 (원본 날짜와 변경된 날짜 모두)
-        invalidateRelatedRecommendations(userId, originalDate);
-        if (!originalDate.equals(updated.getDate())) {
-            invalidateRelatedRecommendations(userId, updated.getDate());
-        }
+        // 슬롯 카운터 갱신 및 캐시 무효화 (원본 날짜와 변경된 날짜 모두)
+        slotCounterService.applyChanges(counters);
+        invalidateRelatedRecommendations(userId, affectedDates);
         
         return convertToDto(updated);
     }
@@ -91,18 +184,117 @@ public class UserScheduleService {
         }
         
         LocalDate scheduleDate = schedule.getDate();
+        SlotCounterService.MemberDaySnapshot counters = slotCounterService.snapshot(userId, Set.of(scheduleDate));
         userScheduleRepository.delete(schedule);
         
-        // 캐시 무효화
-        invalidateRelatedRecommendations(userId, scheduleDate);
+        // 슬롯 카운터 갱신 및 캐시 무효화
+        slotCounterService.applyChanges(counters);
+        invalidateRelatedRecommendations(userId, Set.of(scheduleDate));
+    }
+    
+    /**
+     * 일정 생성/수정/삭제 목록을 한 트랜잭션으로 처리
+     * 생성은 JDBC 배치 INSERT, 수정 대상은 한 번에 조회, 삭제는 IN 조건 DELETE 한 번으로 처리하고
+     * 슬롯 카운터 갱신과 캐시 무효화는 영향받은 날짜별로 한 번씩만 수행한다.
+     */
+    public BulkScheduleResultDto applyBulk(Long userId, BulkScheduleRequest request) {
+        List<CreateScheduleRequest> creates = request.getCreate() != null ? request.getCreate() : List.of();
+        List<BulkScheduleRequest.UpdateItem> updates = request.getUpdate() != null ? request.getUpdate() : List.of();
+        List<Long> deleteIds = request.getDelete() != null ? request.getDelete().stream().distinct().toList() : List.of();
+        
+        List<Long> updateIds = updates.stream().map(BulkScheduleRequest.UpdateItem::getId).toList();
+        Set<Long> touchedIds = new HashSet<>(updateIds);
+        if (touchedIds.size() != updateIds.size() || deleteIds.stream().anyMatch(touchedIds::contains)) {
+            throw new IllegalArgumentException("같은 일정에 여러 작업을 지정할 수 없습니다.");
+        }
+        touchedIds.addAll(deleteIds);
+        
+        // 수정/삭제 대상 일괄 조회 및 권한 확인
+        Map<Long, UserSchedule> existing = userScheduleRepository.findAllById(touchedIds).stream()
+                .collect(Collectors.toMap(UserSchedule::getId, Function.identity()));
+        for (Long scheduleId : touchedIds) {
+            UserSchedule schedule = existing.get(scheduleId);
+            if (schedule == null) {
+                throw new EntityNotFoundException("스케줄을 찾을 수 없습니다. id=" + scheduleId);
+            }
+            if (!schedule.getUser().getId().equals(userId)) {
+                throw new AccessDeniedException("스케줄을 변경할 권한이 없습니다.");
+            }
+        }
+        
+        // 영향받는 날짜 (수정은 원본 날짜와 변경된 날짜 모두)
+        Set<LocalDate> affectedDates = new HashSet<>();
+        creates.forEach(create -> affectedDates.add(create.getDate()));
+        for (BulkScheduleRequest.UpdateItem update : updates) {
+            affectedDates.add(existing.get(update.getId()).getDate());
+            if (update.getChanges().getDate() != null) {
+                affectedDates.add(update.getChanges().getDate());
+            }
+        }
+        deleteIds.forEach(scheduleId -> affectedDates.add(existing.get(scheduleId).getDate()));
+        SlotCounterService.MemberDaySnapshot counters = slotCounterService.snapshot(userId, affectedDates);
+        
+        // 생성
+        List<UserSchedule> created = new ArrayList<>(creates.size());
+        for (CreateScheduleRequest create : creates) {
+            created.add(toEntity(userId, create));
+        }
+        userScheduleBatchRepository.insertAll(created);
+        
+        // 수정 (변경 감지로 flush 시 order_updates/batch_size 설정에 따라 묶여 나간다)
+        List<UserSchedule> updated = new ArrayList<>(updates.size());
+        for (BulkScheduleRequest.UpdateItem update : updates) {
+            UserSchedule schedule = existing.get(update.getId());
+            applyChanges(schedule, update.getChanges());
+            if (!schedule.getEndTime().isAfter(schedule.getStartTime())) {
+                throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다. id=" + schedule.getId());
+            }
+            updated.add(schedule);
+        }
+        
+        // 삭제
+        if (!deleteIds.isEmpty()) {
+            userScheduleRepository.deleteAllByIdInBatch(deleteIds);
+        }
+        
+        // 슬롯 카운터 갱신 및 날짜별 한 번의 캐시 무효화
+        slotCounterService.applyChanges(counters);
+        if (!affectedDates.isEmpty()) {
+            invalidateRelatedRecommendations(userId, affectedDates);
+        }
+        
+        return BulkScheduleResultDto.builder()
+                .created(created.stream().map(this::convertToDto).toList())
+                .updated(updated.stream().map(this::convertToDto).toList())
+                .deleted(deleteIds.size())
+                .build();
     }
     
-    private void invalidateRelatedRecommendations(Long userId, LocalDate date) {
-        // 해당 사용자가 속한 모든 그룹의 추천 캐시를 무효화
-        // 실제로는 GroupMemberRepository를 통해 사용자가 속한 그룹들을 조회해야 함
-        // 여기서는 간단히 처리
+    private UserSchedule toEntity(Long userId, CreateScheduleRequest request) {
+        return UserSchedule.builder()
+                .user(User.builder().id(userId).build())
+                .date(request.getDate())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .type(request.getType() != null ? request.getType() : UserSchedule.ScheduleType.BUSY)
+                .build();
+    }
+    
+    private void applyChanges(UserSchedule schedule, UpdateScheduleRequest request) {
+        if (request.getDate() != null) schedule.setDate(request.getDate());
+        if (request.getStartTime() != null) schedule.setStartTime(request.getStartTime());
+        if (request.getEndTime() != null) schedule.setEndTime(request.getEndTime());
+        if (request.getTitle() != null) schedule.setTitle(request.getTitle());
+        if (request.getDescription() != null) schedule.setDescription(request.getDescription());
+        if (request.getType() != null) schedule.setType(request.getType());
+    }
+    
+    private void invalidateRelatedRecommendations(Long userId, Set<LocalDate> dates) {
+        // 해당 사용자가 속한 그룹들의 해당 날짜 추천 캐시만 한 번에 무효화
         try {
-            scheduleAnalysisService.invalidateRecommendationCache(null, date);
+            recommendationCacheService.invalidate(groupMembershipIndex.getGroupIds(userId), dates);
         } catch (Exception e) {
             log.warn("추천 캐시 무효화 실패: {}", e.getMessage());
         }
@@ -122,4 +314,19 @@ public class UserScheduleService {
                 .updatedAt(schedule.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+    
+    private UserScheduleDto convertToDto(RecurringSchedule rule, LocalDate date) {
+        return UserScheduleDto.builder()
+                .userId(rule.getUser().getId())
+                .date(date)
+                .startTime(rule.getStartTime())
+                .endTime(rule.getEndTime())
+                .title(rule.getTitle())
+                .description(rule.getDescription())
+                .type(rule.getType())
+                .recurringScheduleId(rule.getId())
+                .createdAt(rule.getCreatedAt())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+}
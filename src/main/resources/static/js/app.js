@@ -196,19 +196,30 @@ function updateDashboardStats(stats) {
 }
 
 // Group Functions
-async function loadGroups() {
+let loadedGroups = [];
+let groupsCursor = null;
+
+async function loadGroups(append = false) {
     try {
-        const response = await apiRequest('/groups');
-        displayGroups(response.data);
+        const cursorParam = append && groupsCursor ? `&cursor=${groupsCursor}` : '';
+        const response = await apiRequest(`/groups?size=20${cursorParam}`);
+        const page = response.data;
+        loadedGroups = append ? loadedGroups.concat(page.items) : page.items;
+        groupsCursor = page.hasNext ? page.nextCursor : null;
+        displayGroups(loadedGroups, page.hasNext);
     } catch (error) {
         console.error('Failed to load groups:', error);
     }
 }
 
-function displayGroups(groups) {
+function displayGroups(groups, hasNext = false) {
     const groupsGrid = document.querySelector('.groups-grid');
     if (!groupsGrid || !groups) return;
 
+    const loadMore = hasNext
+        ? '<button class="btn btn-secondary" onclick="loadGroups(true)">더 보기</button>'
+        : '';
+
     groupsGrid.innerHTML = groups.map(group => `
         <div class="card group-card">
             <div class="group-header">
@@ -237,7 +248,7 @@ function displayGroups(groups) {
                 <span class="created-date">생성일: ${formatDate(group.createdAt)}</span>
             </div>
         </div>
-    `).join('');
+    `).join('') + loadMore;
 }
 
 async function handleCreateGroup(e) {
@@ -285,8 +296,16 @@ async function loadSchedules() {
         const startDate = document.getElementById('startDate')?.value || getTodayDate();
         const endDate = document.getElementById('endDate')?.value || getNextMonthDate();
         
-        const response = await apiRequest(`/schedules?startDate=${startDate}&endDate=${endDate}`);
-        displaySchedules(response.data);
+        // 첫 페이지를 먼저 그리고, 나머지 페이지는 받는 대로 이어 붙인다
+        let schedules = [];
+        let cursor = null;
+        do {
+            const cursorParam = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+            const response = await apiRequest(`/schedules?startDate=${startDate}&endDate=${endDate}${cursorParam}`);
+            schedules = schedules.concat(response.data.items);
+            cursor = response.data.hasNext ? response.data.nextCursor : null;
+            displaySchedules(schedules);
+        } while (cursor);
     } catch (error) {
         console.error('Failed to load schedules:', error);
     }
@@ -314,6 +333,7 @@ function displaySchedules(schedules) {
                     <span>${getScheduleTypeText(schedule.type)}</span>
                 </div>
             </div>
+            ${schedule.recurringScheduleId ? '' : `
             <div class="schedule-actions">
                 <button class="btn-icon" onclick="editSchedule(${schedule.id})">
                     <i class="fas fa-edit"></i>
@@ -321,7 +341,7 @@ function displaySchedules(schedules) {
                 <button class="btn-icon delete" onclick="deleteSchedule(${schedule.id})">
                     <i class="fas fa-trash"></i>
                 </button>
-            </div>
+            </div>`}
         </div>
     `).join('');
 }
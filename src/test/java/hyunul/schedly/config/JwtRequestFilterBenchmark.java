@@ -0,0 +1,87 @@
+package hyunul.schedly.config;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.function.IntFunction;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import hyunul.schedly.entity.User;
+import hyunul.schedly.repository.UserRepository;
+import hyunul.schedly.service.JwtService;
+import hyunul.schedly.service.TokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JwtRequestFilter 경로 마이크로벤치마크 (JUnit 테스트가 아니므로 test 작업에서는 실행되지 않음)
+ * 같은 토큰 반복 요청(검증 캐시 적중)과 매번 다른 토큰 요청(HS512 검증)의 필터 처리 시간을 비교한다.
+ * 실행: ./gradlew jwtFilterBenchmark
+ */
+public class JwtRequestFilterBenchmark {
+
+	private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationThatShouldBeAtLeast32Characters";
+
+	private static final int WARMUP = 20_000;
+	private static final int MEASURED = 200_000;
+	private static final int UNCACHED_WARMUP = 5_000;
+	private static final int UNCACHED_MEASURED = 20_000;
+
+	public static void main(String[] args) throws Exception {
+		JwtService jwtService = new JwtService(mock(TokenRevocationStore.class), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+		ReflectionTestUtils.setField(jwtService, "expiration", 3600L);
+		ReflectionTestUtils.setField(jwtService, "verifiedCacheMaxEntries", 100_000L);
+		ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+		JwtRequestFilter filter = new JwtRequestFilter(jwtService, mock(UserRepository.class));
+		ReflectionTestUtils.setField(filter, "principalFromClaims", true);
+		ReflectionTestUtils.setField(filter, "principalCacheMaxEntries", 10_000L);
+		ReflectionTestUtils.setField(filter, "principalCacheTtlSeconds", 60L);
+		ReflectionTestUtils.invokeMethod(filter, "init");
+
+		// 캐시 미스 경로는 토큰마다 한 번씩만 쓰이도록 미리 만들어 둔다
+		String[] tokens = new String[UNCACHED_WARMUP + UNCACHED_MEASURED];
+		for (int i = 0; i < tokens.length; i++) {
+			tokens[i] = jwtService.generateToken(User.builder()
+					.id((long) i + 1)
+					.email("user" + i + "@example.com")
+					.name("user" + i)
+					.build());
+		}
+		String repeated = jwtService.generateToken(User.builder()
+				.id(0L)
+				.email("repeat@example.com")
+				.name("repeat")
+				.build());
+
+		run("cached", filter, i -> repeated, WARMUP, MEASURED);
+		run("uncached", filter, i -> tokens[i], UNCACHED_WARMUP, UNCACHED_MEASURED);
+	}
+
+	private static void run(String name, JwtRequestFilter filter, IntFunction<String> token,
+							int warmup, int measured) throws Exception {
+		for (int i = 0; i < warmup; i++) {
+			filterOnce(filter, token.apply(i));
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < measured; i++) {
+			filterOnce(filter, token.apply(warmup + i));
+		}
+		long elapsed = System.nanoTime() - start;
+		System.out.printf("%-10s %,10d ops %,12.0f ns/op%n", name, measured, (double) elapsed / measured);
+	}
+
+	private static void filterOnce(JwtRequestFilter filter, String token) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/groups");
+		request.addHeader("Authorization", "Bearer " + token);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		if (SecurityContextHolder.getContext().getAuthentication() == null) {
+			throw new IllegalStateException("인증되지 않았습니다.");
+		}
+		SecurityContextHolder.clearContext();
+	}
+}
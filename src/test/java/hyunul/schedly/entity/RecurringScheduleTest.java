@@ -0,0 +1,101 @@
+package hyunul.schedly.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class RecurringScheduleTest {
+
+	@Test
+	void dailyRuleYieldsEveryDayInRange() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.DAILY, 1, date(2024, 1, 1), null);
+
+		assertEquals(List.of(date(2024, 1, 3), date(2024, 1, 4), date(2024, 1, 5)),
+				rule.occurrencesBetween(date(2024, 1, 3), date(2024, 1, 5)));
+	}
+
+	@Test
+	void dailyIntervalSkipsToFirstOccurrenceInRange() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.DAILY, 3, date(2024, 1, 1), null);
+
+		assertEquals(List.of(date(2024, 1, 7), date(2024, 1, 10)),
+				rule.occurrencesBetween(date(2024, 1, 5), date(2024, 1, 12)));
+	}
+
+	@Test
+	void weeklyRuleFollowsStartWeekday() {
+		// 2024-01-01은 월요일, 격주
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.WEEKLY, 2, date(2024, 1, 1), null);
+
+		assertEquals(List.of(date(2024, 1, 15), date(2024, 1, 29)),
+				rule.occurrencesBetween(date(2024, 1, 2), date(2024, 2, 11)));
+	}
+
+	@Test
+	void monthlyRuleSkipsMonthsWithoutThatDay() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.MONTHLY, 1, date(2024, 1, 31), null);
+
+		assertEquals(List.of(date(2024, 1, 31), date(2024, 3, 31), date(2024, 5, 31)),
+				rule.occurrencesBetween(date(2024, 1, 1), date(2024, 6, 30)));
+	}
+
+	@Test
+	void monthlyIntervalCountsFromStartMonth() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.MONTHLY, 2, date(2024, 1, 15), null);
+
+		assertEquals(List.of(date(2024, 3, 15), date(2024, 5, 15), date(2024, 7, 15)),
+				rule.occurrencesBetween(date(2024, 2, 1), date(2024, 7, 31)));
+	}
+
+	@Test
+	void stopsAtUntilDate() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.DAILY, 1, date(2024, 1, 1), date(2024, 1, 3));
+
+		assertEquals(List.of(date(2024, 1, 1), date(2024, 1, 2), date(2024, 1, 3)),
+				rule.occurrencesBetween(date(2024, 1, 1), date(2024, 1, 10)));
+		assertTrue(rule.occurrencesBetween(date(2024, 1, 4), date(2024, 1, 10)).isEmpty());
+	}
+
+	@Test
+	void rangeBeforeStartIsEmpty() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.WEEKLY, 1, date(2024, 3, 1), null);
+
+		assertTrue(rule.occurrencesBetween(date(2024, 1, 1), date(2024, 2, 29)).isEmpty());
+	}
+
+	@Test
+	void excludesExceptionDates() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.DAILY, 1, date(2024, 1, 1), null);
+		rule.setExceptionDates(new TreeSet<>(List.of(date(2024, 1, 2))));
+
+		assertEquals(List.of(date(2024, 1, 1), date(2024, 1, 3)),
+				rule.occurrencesBetween(date(2024, 1, 1), date(2024, 1, 3)));
+	}
+
+	@Test
+	void farRangeOnlyCostsOccurrencesInside() {
+		RecurringSchedule rule = rule(RecurringSchedule.Frequency.DAILY, 1, date(2000, 1, 1), null);
+
+		assertEquals(List.of(date(2024, 2, 28), date(2024, 2, 29), date(2024, 3, 1)),
+				rule.occurrencesBetween(date(2024, 2, 28), date(2024, 3, 1)));
+	}
+
+	private static RecurringSchedule rule(RecurringSchedule.Frequency frequency, int interval,
+										  LocalDate startDate, LocalDate untilDate) {
+		return RecurringSchedule.builder()
+				.frequency(frequency)
+				.repeatInterval(interval)
+				.startDate(startDate)
+				.untilDate(untilDate)
+				.build();
+	}
+
+	private static LocalDate date(int year, int month, int day) {
+		return LocalDate.of(year, month, day);
+	}
+}
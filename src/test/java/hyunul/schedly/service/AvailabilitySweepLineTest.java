@@ -0,0 +1,144 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import hyunul.schedly.dto.TimeSlot;
+
+class AvailabilitySweepLineTest {
+
+	@Test
+	void segmentsCoverWindowAndMergeEqualNeighbours() {
+		AvailabilitySweepLine sweep = new AvailabilitySweepLine(3, LocalTime.of(9, 0), LocalTime.of(12, 0));
+		sweep.addBusy(0, seconds(9, 20), seconds(10, 0));
+		sweep.addBusy(1, seconds(9, 40), seconds(10, 10));
+		sweep.addBusy(2, seconds(10, 10), seconds(11, 0)); // 1번이 끝나는 시각에 시작 - 인원 변화 없음
+
+		List<TimeSlot> segments = sweep.segments();
+
+		assertEquals(5, segments.size());
+		assertSegment(segments.get(0), LocalTime.of(9, 0), LocalTime.of(9, 20), 3);
+		assertSegment(segments.get(1), LocalTime.of(9, 20), LocalTime.of(9, 40), 2);
+		assertSegment(segments.get(2), LocalTime.of(9, 40), LocalTime.of(10, 0), 1);
+		assertSegment(segments.get(3), LocalTime.of(10, 0), LocalTime.of(11, 0), 2);
+		assertSegment(segments.get(4), LocalTime.of(11, 0), LocalTime.of(12, 0), 3);
+	}
+
+	@Test
+	void overlappingIntervalsOfOneMemberCountOnce() {
+		AvailabilitySweepLine sweep = new AvailabilitySweepLine(2, LocalTime.of(9, 0), LocalTime.of(10, 0));
+		sweep.addBusy(0, seconds(9, 0), seconds(9, 40));
+		sweep.addBusy(0, seconds(9, 20), seconds(10, 0));
+
+		List<TimeSlot> segments = sweep.segments();
+
+		assertEquals(1, segments.size());
+		assertSegment(segments.get(0), LocalTime.of(9, 0), LocalTime.of(10, 0), 1);
+	}
+
+	@Test
+	void clipsIntervalsToWindow() {
+		AvailabilitySweepLine sweep = new AvailabilitySweepLine(1, LocalTime.of(9, 0), LocalTime.of(10, 0));
+		sweep.addBusy(0, seconds(8, 0), seconds(9, 15));
+		sweep.addBusy(0, seconds(10, 0), seconds(11, 0));
+
+		List<TimeSlot> segments = sweep.segments();
+
+		assertEquals(2, segments.size());
+		assertSegment(segments.get(0), LocalTime.of(9, 0), LocalTime.of(9, 15), 0);
+		assertSegment(segments.get(1), LocalTime.of(9, 15), LocalTime.of(10, 0), 1);
+	}
+
+	@Test
+	void selectsExactLengthWindowsStartingAtSegmentEdges() {
+		AvailabilitySweepLine sweep = new AvailabilitySweepLine(2, LocalTime.of(9, 0), LocalTime.of(11, 0));
+		sweep.addBusy(0, seconds(9, 0), seconds(9, 25));
+		sweep.addBusy(1, seconds(10, 35), seconds(11, 0));
+
+		List<TimeSlot> top = sweep.selectTop(Duration.ofMinutes(60), 3);
+
+		// 09:25 ~ 10:35 사이 어디서든 2명 - 후보는 구간 시작(09:25)과 구간 끝 - 길이(09:35)
+		assertEquals(3, top.size());
+		assertSegment(top.get(0), LocalTime.of(9, 25), LocalTime.of(10, 25), 2);
+		assertSegment(top.get(1), LocalTime.of(9, 35), LocalTime.of(10, 35), 2);
+		assertEquals(1, top.get(2).getAvailableMembers());
+	}
+
+	@Test
+	void returnsNothingWhenDurationDoesNotFit() {
+		AvailabilitySweepLine sweep = new AvailabilitySweepLine(1, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+		assertTrue(sweep.selectTop(Duration.ofMinutes(61), 5).isEmpty());
+		assertTrue(sweep.selectTop(Duration.ZERO, 5).isEmpty());
+		assertTrue(sweep.selectTop(Duration.ofMinutes(30), 0).isEmpty());
+	}
+
+	@Test
+	void bestWindowMatchesBruteForceOnRandomInput() {
+		Random random = new Random(7);
+		int windowStart = seconds(9, 0);
+		int windowEnd = seconds(13, 0);
+		for (int round = 0; round < 100; round++) {
+			int members = 1 + random.nextInt(5);
+			int[] availableAt = new int[windowEnd - windowStart];
+			Arrays.fill(availableAt, members);
+			AvailabilitySweepLine sweep = new AvailabilitySweepLine(members, LocalTime.of(9, 0), LocalTime.of(13, 0));
+			for (int member = 0; member < members; member++) {
+				boolean[] busy = new boolean[availableAt.length];
+				for (int interval = random.nextInt(4); interval > 0; interval--) {
+					int start = windowStart - 1800 + random.nextInt(16) * 900;
+					int end = start + (1 + random.nextInt(8)) * 300;
+					sweep.addBusy(member, start, end);
+					for (int second = Math.max(start, windowStart); second < Math.min(end, windowEnd); second++) {
+						busy[second - windowStart] = true;
+					}
+				}
+				for (int i = 0; i < busy.length; i++) {
+					if (busy[i]) {
+						availableAt[i]--;
+					}
+				}
+			}
+			int length = (1 + random.nextInt(8)) * 900;
+
+			List<TimeSlot> top = sweep.selectTop(Duration.ofSeconds(length), 5);
+
+			int best = 0;
+			for (int start = 0; start + length <= availableAt.length; start += 60) {
+				best = Math.max(best, minimum(availableAt, start, start + length));
+			}
+			assertEquals(best, top.isEmpty() ? 0 : top.get(0).getAvailableMembers(), "round " + round);
+			for (TimeSlot window : top) {
+				int start = window.getStartTime().toSecondOfDay() - windowStart;
+				assertEquals(length, window.getEndTime().toSecondOfDay() - window.getStartTime().toSecondOfDay());
+				assertEquals(minimum(availableAt, start, start + length), window.getAvailableMembers(), "round " + round);
+			}
+		}
+	}
+
+	private static int minimum(int[] values, int from, int to) {
+		int min = Integer.MAX_VALUE;
+		for (int i = from; i < to; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+	private static void assertSegment(TimeSlot segment, LocalTime start, LocalTime end, int availableMembers) {
+		assertEquals(start, segment.getStartTime());
+		assertEquals(end, segment.getEndTime());
+		assertEquals(availableMembers, segment.getAvailableMembers());
+	}
+
+	private static int seconds(int hour, int minute) {
+		return hour * 3600 + minute * 60;
+	}
+}
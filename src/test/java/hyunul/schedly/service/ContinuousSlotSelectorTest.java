@@ -0,0 +1,123 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import hyunul.schedly.dto.TimeSlot;
+
+class ContinuousSlotSelectorTest {
+
+	@Test
+	void windowAvailabilityIsMinimumOverItsSlots() {
+		List<TimeSlot> slots = slots(3, 5, 4, 5, 2);
+
+		List<TimeSlot> top = ContinuousSlotSelector.selectTop(slots, 2, 10);
+
+		// 시작 슬롯별 윈도우 최소값: [3, 4, 4, 2] → 4(1), 4(2), 3(0), 2(3)
+		assertEquals(4, top.size());
+		assertWindow(top.get(0), 1, 2, 4);
+		assertWindow(top.get(1), 2, 2, 4);
+		assertWindow(top.get(2), 0, 2, 3);
+		assertWindow(top.get(3), 3, 2, 2);
+	}
+
+	@Test
+	void keepsOnlyTopNWithEarlierStartWinningTies() {
+		List<TimeSlot> slots = slots(2, 2, 2, 2, 2);
+
+		List<TimeSlot> top = ContinuousSlotSelector.selectTop(slots, 1, 3);
+
+		assertEquals(3, top.size());
+		assertWindow(top.get(0), 0, 1, 2);
+		assertWindow(top.get(1), 1, 1, 2);
+		assertWindow(top.get(2), 2, 1, 2);
+	}
+
+	@Test
+	void skipsWindowsNobodyCanAttend() {
+		List<TimeSlot> slots = slots(0, 3, 3, 0, 1);
+
+		List<TimeSlot> top = ContinuousSlotSelector.selectTop(slots, 2, 10);
+
+		assertEquals(1, top.size());
+		assertWindow(top.get(0), 1, 2, 3);
+	}
+
+	@Test
+	void returnsNothingForInvalidRequests() {
+		List<TimeSlot> slots = slots(1, 1);
+
+		assertTrue(ContinuousSlotSelector.selectTop(slots, 3, 5).isEmpty());
+		assertTrue(ContinuousSlotSelector.selectTop(slots, 0, 5).isEmpty());
+		assertTrue(ContinuousSlotSelector.selectTop(slots, 1, 0).isEmpty());
+		assertTrue(ContinuousSlotSelector.selectTop(List.of(), 1, 5).isEmpty());
+	}
+
+	@Test
+	void matchesBruteForceOnRandomInput() {
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			int[] available = new int[1 + random.nextInt(40)];
+			for (int i = 0; i < available.length; i++) {
+				available[i] = random.nextInt(6);
+			}
+			int required = 1 + random.nextInt(available.length);
+			int topN = 1 + random.nextInt(8);
+
+			List<TimeSlot> actual = ContinuousSlotSelector.selectTop(slots(available), required, topN);
+			List<int[]> expected = bruteForce(available, required, topN);
+
+			assertEquals(expected.size(), actual.size(), "round " + round);
+			for (int i = 0; i < expected.size(); i++) {
+				assertWindow(actual.get(i), expected.get(i)[0], required, expected.get(i)[1]);
+			}
+		}
+	}
+
+	// (시작, 최소 가용 인원) 목록을 가용 인원 내림차순, 시작 오름차순으로
+	private static List<int[]> bruteForce(int[] available, int required, int topN) {
+		List<int[]> windows = new ArrayList<>();
+		for (int start = 0; start + required <= available.length; start++) {
+			int min = Integer.MAX_VALUE;
+			for (int i = start; i < start + required; i++) {
+				min = Math.min(min, available[i]);
+			}
+			if (min > 0) {
+				windows.add(new int[] {start, min});
+			}
+		}
+		windows.sort(Comparator.<int[]>comparingInt(window -> -window[1]).thenComparingInt(window -> window[0]));
+		return windows.subList(0, Math.min(topN, windows.size()));
+	}
+
+	private static void assertWindow(TimeSlot window, int startSlot, int length, int availableMembers) {
+		assertEquals(slotStart(startSlot), window.getStartTime());
+		assertEquals(slotStart(startSlot + length), window.getEndTime());
+		assertEquals(availableMembers, window.getAvailableMembers());
+	}
+
+	private static List<TimeSlot> slots(int... available) {
+		List<TimeSlot> slots = new ArrayList<>(available.length);
+		for (int i = 0; i < available.length; i++) {
+			slots.add(TimeSlot.builder()
+					.startTime(slotStart(i))
+					.endTime(slotStart(i + 1))
+					.availableMembers(available[i])
+					.totalMembers(5)
+					.build());
+		}
+		return slots;
+	}
+
+	private static LocalTime slotStart(int slot) {
+		return LocalTime.of(9, 0).plusMinutes(30L * slot);
+	}
+}
@@ -0,0 +1,86 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import hyunul.schedly.dto.CursorPageDto;
+import hyunul.schedly.dto.GroupDto;
+import hyunul.schedly.repository.GroupMemberRepository;
+import hyunul.schedly.repository.GroupRepository;
+import hyunul.schedly.repository.UserRepository;
+
+class GroupServiceTest {
+
+	private GroupRepository groupRepository;
+	private GroupService groupService;
+
+	@BeforeEach
+	void setUp() {
+		groupRepository = mock(GroupRepository.class);
+		groupService = new GroupService(groupRepository, mock(GroupMemberRepository.class),
+				mock(UserRepository.class), mock(GroupMembershipIndex.class),
+				mock(RecommendationCacheService.class), mock(SlotCounterService.class));
+	}
+
+	@Test
+	void firstPageReadsOneExtraRowAndReturnsLastIdAsCursor() {
+		when(groupRepository.findGroupSummariesByMemberId(eq(1L), isNull(), eq(PageRequest.of(0, 3))))
+				.thenReturn(groups(30L, 20L, 10L));
+
+		CursorPageDto<GroupDto> page = groupService.getUserGroups(1L, null, 2);
+
+		assertEquals(2, page.getItems().size());
+		assertTrue(page.isHasNext());
+		assertEquals("20", page.getNextCursor());
+	}
+
+	@Test
+	void cursorIsPassedAsAfterId() {
+		when(groupRepository.findGroupSummariesByMemberId(eq(1L), eq(20L), eq(PageRequest.of(0, 3))))
+				.thenReturn(groups(10L));
+
+		CursorPageDto<GroupDto> page = groupService.getUserGroups(1L, "20", 2);
+
+		assertEquals(1, page.getItems().size());
+		assertFalse(page.isHasNext());
+		assertNull(page.getNextCursor());
+	}
+
+	@Test
+	void blankCursorStartsFromFirstPage() {
+		when(groupRepository.findGroupSummariesByMemberId(eq(1L), isNull(), any()))
+				.thenReturn(groups(10L));
+
+		assertEquals(1, groupService.getUserGroups(1L, " ", 2).getItems().size());
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		assertThrows(IllegalArgumentException.class, () -> groupService.getUserGroups(1L, "abc", 2));
+		verifyNoInteractions(groupRepository);
+	}
+
+	private static List<GroupDto> groups(Long... ids) {
+		List<GroupDto> groups = new ArrayList<>();
+		for (Long id : ids) {
+			groups.add(GroupDto.builder().id(id).name("group-" + id).build());
+		}
+		return groups;
+	}
+}
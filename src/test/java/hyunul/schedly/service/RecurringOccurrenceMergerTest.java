@@ -0,0 +1,133 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+
+import hyunul.schedly.dto.UserScheduleDto;
+import hyunul.schedly.entity.RecurringSchedule;
+
+class RecurringOccurrenceMergerTest {
+
+	private static final BiFunction<RecurringSchedule, LocalDate, UserScheduleDto> TO_DTO = (rule, day) ->
+			UserScheduleDto.builder()
+					.recurringScheduleId(rule.getId())
+					.date(day)
+					.startTime(rule.getStartTime())
+					.build();
+
+	@Test
+	void interleavesOccurrencesBetweenSingleSchedules() {
+		RecurringOccurrenceMerger merger = new RecurringOccurrenceMerger(
+				List.of(daily(1L, LocalTime.of(9, 0))), date(1), date(3), TO_DTO);
+		List<UserScheduleDto> singles = List.of(
+				single(10L, date(1), LocalTime.of(8, 0)),
+				single(5L, date(2), LocalTime.of(9, 0)),
+				single(7L, date(3), LocalTime.of(12, 0)));
+
+		List<UserScheduleDto> merged = new ArrayList<>();
+		for (UserScheduleDto schedule : singles) {
+			merger.drainBefore(schedule, merged::add);
+			merged.add(schedule);
+		}
+		merger.drainAll(merged::add);
+
+		// 같은 시각이면 반복 발생분(-규칙 ID)이 단건보다 앞
+		assertEquals(List.of("1-s10", "1-r1", "2-r1", "2-s5", "3-r1", "3-s7"), keys(merged));
+	}
+
+	@Test
+	void ordersSameDayOccurrencesByStartThenRule() {
+		RecurringOccurrenceMerger merger = new RecurringOccurrenceMerger(
+				List.of(daily(1L, LocalTime.of(10, 0)), daily(2L, LocalTime.of(9, 0)), daily(3L, LocalTime.of(9, 0))),
+				date(1), date(1), TO_DTO);
+
+		List<UserScheduleDto> merged = new ArrayList<>();
+		merger.drainAll(merged::add);
+
+		assertEquals(List.of("1-r3", "1-r2", "1-r1"), keys(merged));
+	}
+
+	@Test
+	void stopsExpandingOnceReceiverIsFull() {
+		AtomicInteger expanded = new AtomicInteger();
+		List<UserScheduleDto> merged = new ArrayList<>();
+		RecurringOccurrenceMerger merger = new RecurringOccurrenceMerger(
+				List.of(daily(1L, LocalTime.of(9, 0))), date(1), date(30),
+				(rule, day) -> {
+					expanded.incrementAndGet();
+					return TO_DTO.apply(rule, day);
+				},
+				() -> merged.size() >= 2);
+
+		merger.drainAll(merged::add);
+
+		assertEquals(2, merged.size());
+		assertEquals(2, expanded.get());
+	}
+
+	@Test
+	void doesNotExpandPastNextSingleSchedule() {
+		AtomicInteger expanded = new AtomicInteger();
+		RecurringOccurrenceMerger merger = new RecurringOccurrenceMerger(
+				List.of(daily(1L, LocalTime.of(9, 0))), date(1), date(30),
+				(rule, day) -> {
+					expanded.incrementAndGet();
+					return TO_DTO.apply(rule, day);
+				});
+
+		List<UserScheduleDto> merged = new ArrayList<>();
+		merger.drainBefore(single(1L, date(2), LocalTime.of(8, 0)), merged::add);
+
+		assertEquals(List.of("1-r1"), keys(merged));
+		assertEquals(2, expanded.get());
+	}
+
+	@Test
+	void withoutRulesYieldsNothing() {
+		RecurringOccurrenceMerger merger = new RecurringOccurrenceMerger(List.of(), date(1), date(30), TO_DTO);
+
+		List<UserScheduleDto> merged = new ArrayList<>();
+		merger.drainBefore(single(1L, date(15), LocalTime.NOON), merged::add);
+		merger.drainAll(merged::add);
+
+		assertTrue(merged.isEmpty());
+	}
+
+	// "일-s단건ID" / "일-r규칙ID"
+	private static List<String> keys(List<UserScheduleDto> schedules) {
+		List<String> keys = new ArrayList<>();
+		for (UserScheduleDto schedule : schedules) {
+			keys.add(schedule.getDate().getDayOfMonth() + (schedule.getId() != null
+					? "-s" + schedule.getId()
+					: "-r" + schedule.getRecurringScheduleId()));
+		}
+		return keys;
+	}
+
+	private static RecurringSchedule daily(Long id, LocalTime startTime) {
+		return RecurringSchedule.builder()
+				.id(id)
+				.frequency(RecurringSchedule.Frequency.DAILY)
+				.startDate(date(1))
+				.startTime(startTime)
+				.endTime(startTime.plusHours(1))
+				.build();
+	}
+
+	private static UserScheduleDto single(Long id, LocalDate date, LocalTime startTime) {
+		return UserScheduleDto.builder().id(id).date(date).startTime(startTime).build();
+	}
+
+	private static LocalDate date(int day) {
+		return LocalDate.of(2024, 1, day);
+	}
+}
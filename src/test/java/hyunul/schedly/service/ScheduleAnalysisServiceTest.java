@@ -0,0 +1,48 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import hyunul.schedly.dto.AnalyzeScheduleRangeRequest;
+import hyunul.schedly.dto.AnalyzeScheduleRequest;
+
+class ScheduleAnalysisServiceTest {
+
+	private static final LocalDate DATE = LocalDate.of(2024, 5, 1);
+
+	@Test
+	void differentLimitsUseDifferentCacheFields() {
+		AnalyzeScheduleRequest top3 = AnalyzeScheduleRequest.builder().targetDate(DATE).maxRecommendations(3).build();
+		AnalyzeScheduleRequest top10 = AnalyzeScheduleRequest.builder().targetDate(DATE).maxRecommendations(10).build();
+
+		assertNotEquals(ScheduleAnalysisService.variantKey(top3), ScheduleAnalysisService.variantKey(top10));
+	}
+
+	@Test
+	void sameConditionsShareCacheField() {
+		AnalyzeScheduleRequest first = AnalyzeScheduleRequest.builder().targetDate(DATE).maxRecommendations(5).build();
+		AnalyzeScheduleRequest second = AnalyzeScheduleRequest.builder().targetDate(DATE).maxRecommendations(5).build();
+
+		assertEquals(ScheduleAnalysisService.variantKey(first), ScheduleAnalysisService.variantKey(second));
+	}
+
+	@Test
+	void rangeRequestKeepsDailyLimitInCacheField() {
+		AnalyzeScheduleRangeRequest range = AnalyzeScheduleRangeRequest.builder()
+				.startDate(DATE)
+				.endDate(DATE.plusDays(6))
+				.maxRecommendations(3)
+				.build();
+		AnalyzeScheduleRequest daily = AnalyzeScheduleRequest.builder().targetDate(DATE).maxRecommendations(3).build();
+
+		assertEquals(ScheduleAnalysisService.variantKey(daily),
+				ScheduleAnalysisService.variantKey(range.toDailyRequest(DATE)));
+		range.setMaxRecommendations(10);
+		assertNotEquals(ScheduleAnalysisService.variantKey(daily),
+				ScheduleAnalysisService.variantKey(range.toDailyRequest(DATE)));
+	}
+}
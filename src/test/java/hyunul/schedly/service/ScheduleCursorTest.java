@@ -0,0 +1,78 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import hyunul.schedly.dto.UserScheduleDto;
+
+class ScheduleCursorTest {
+
+	@Test
+	void roundTripsSingleSchedule() {
+		UserScheduleDto schedule = single(42L, LocalDate.of(2024, 3, 1), LocalTime.of(9, 30));
+
+		ScheduleCursor cursor = ScheduleCursor.decode(ScheduleCursor.of(schedule).encode());
+
+		assertEquals(new ScheduleCursor(LocalDate.of(2024, 3, 1), LocalTime.of(9, 30), 42L), cursor);
+	}
+
+	@Test
+	void occurrenceUsesNegativeRuleId() {
+		UserScheduleDto occurrence = occurrence(7L, LocalDate.of(2024, 3, 1), LocalTime.of(9, 30));
+
+		ScheduleCursor cursor = ScheduleCursor.decode(ScheduleCursor.of(occurrence).encode());
+
+		assertEquals(-7L, cursor.id());
+	}
+
+	@Test
+	void encodingIsUrlSafeWithoutPadding() {
+		String encoded = new ScheduleCursor(LocalDate.of(2024, 12, 31), LocalTime.of(23, 59), Long.MIN_VALUE).encode();
+
+		assertFalse(encoded.contains("="));
+		assertFalse(encoded.contains("+"));
+		assertFalse(encoded.contains("/"));
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		assertThrows(IllegalArgumentException.class, () -> ScheduleCursor.decode("not a cursor!"));
+		assertThrows(IllegalArgumentException.class, () -> ScheduleCursor.decode(encode("2024-03-01|09:30")));
+		assertThrows(IllegalArgumentException.class, () -> ScheduleCursor.decode(encode("2024-03-01|nine|1")));
+	}
+
+	@Test
+	void isBeforeFollowsListOrder() {
+		LocalDate date = LocalDate.of(2024, 3, 1);
+		ScheduleCursor cursor = ScheduleCursor.of(single(10L, date, LocalTime.of(9, 0)));
+
+		assertFalse(cursor.isBefore(single(10L, date, LocalTime.of(9, 0))));
+		assertFalse(cursor.isBefore(single(9L, date, LocalTime.of(9, 0))));
+		// 같은 시각의 반복 발생분은 단건보다 앞
+		assertFalse(cursor.isBefore(occurrence(1L, date, LocalTime.of(9, 0))));
+		assertTrue(cursor.isBefore(single(11L, date, LocalTime.of(9, 0))));
+		assertTrue(cursor.isBefore(occurrence(1L, date, LocalTime.of(9, 1))));
+		assertTrue(cursor.isBefore(single(1L, date.plusDays(1), LocalTime.MIN)));
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static UserScheduleDto single(Long id, LocalDate date, LocalTime startTime) {
+		return UserScheduleDto.builder().id(id).date(date).startTime(startTime).build();
+	}
+
+	private static UserScheduleDto occurrence(Long ruleId, LocalDate date, LocalTime startTime) {
+		return UserScheduleDto.builder().recurringScheduleId(ruleId).date(date).startTime(startTime).build();
+	}
+}
@@ -0,0 +1,101 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import hyunul.schedly.dto.TimeSlot;
+
+class SlotAvailabilityMatrixTest {
+
+	private static final Duration HALF_HOUR = Duration.ofMinutes(30);
+
+	@Test
+	void countsMembersFreeInEachSlot() {
+		SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(3, LocalTime.of(9, 0), LocalTime.of(12, 0), HALF_HOUR);
+		matrix.markBusy(0, seconds(9, 15), seconds(10, 0));
+		matrix.markBusy(1, seconds(11, 0), seconds(13, 0));
+
+		assertArrayEquals(new int[] {2, 2, 3, 3, 2, 2}, matrix.availableCounts());
+	}
+
+	@Test
+	void intervalEndingOnSlotBoundaryDoesNotTouchNextSlot() {
+		SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(1, LocalTime.of(9, 0), LocalTime.of(11, 0), HALF_HOUR);
+		matrix.markBusy(0, seconds(9, 0), seconds(9, 30));
+
+		assertArrayEquals(new int[] {0, 1, 1, 1}, matrix.availableCounts());
+	}
+
+	@Test
+	void ignoresIntervalsOutsideWindow() {
+		SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(1, LocalTime.of(9, 0), LocalTime.of(10, 0), HALF_HOUR);
+		matrix.markBusy(0, seconds(7, 0), seconds(9, 0));
+		matrix.markBusy(0, seconds(10, 0), seconds(11, 0));
+
+		assertArrayEquals(new int[] {1, 1}, matrix.availableCounts());
+	}
+
+	@Test
+	void overlappingIntervalsOfSameMemberCountOnce() {
+		SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(2, LocalTime.of(9, 0), LocalTime.of(10, 0), HALF_HOUR);
+		matrix.markBusy(0, seconds(9, 0), seconds(10, 0));
+		matrix.markBusy(0, seconds(9, 10), seconds(9, 20));
+
+		assertArrayEquals(new int[] {1, 1}, matrix.availableCounts());
+	}
+
+	@Test
+	void rangesSpanningWordBoundaries() {
+		// 10분 슬롯 144칸 = 멤버당 long 3개
+		SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(2, LocalTime.MIN, LocalTime.MAX, Duration.ofMinutes(10));
+		matrix.markBusy(0, seconds(10, 0), seconds(12, 0)); // 60..71
+		matrix.markBusy(1, seconds(0, 0), seconds(23, 0));  // 0..137
+
+		int[] counts = matrix.availableCounts();
+		assertEquals(143, matrix.getSlotCount());
+		for (int slot = 0; slot < counts.length; slot++) {
+			int expected = 2 - (slot >= 60 && slot < 72 ? 1 : 0) - (slot < 138 ? 1 : 0);
+			assertEquals(expected, counts[slot], "slot " + slot);
+		}
+	}
+
+	@Test
+	void emptyWindowHasNoSlots() {
+		SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(2, LocalTime.of(9, 0), LocalTime.of(9, 20), HALF_HOUR);
+		matrix.markBusy(0, seconds(9, 0), seconds(9, 10));
+
+		assertEquals(0, matrix.getSlotCount());
+		assertEquals(0, matrix.availableCounts().length);
+	}
+
+	@Test
+	void rejectsZeroSlotLength() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new SlotAvailabilityMatrix(1, LocalTime.of(9, 0), LocalTime.of(10, 0), Duration.ZERO));
+	}
+
+	@Test
+	void timeSlotsCarrySlotBoundsAndCounts() {
+		SlotAvailabilityMatrix matrix = new SlotAvailabilityMatrix(2, LocalTime.of(9, 0), LocalTime.of(10, 0), HALF_HOUR);
+		matrix.markBusy(1, seconds(9, 30), seconds(10, 0));
+
+		List<TimeSlot> slots = matrix.toTimeSlots();
+		assertEquals(2, slots.size());
+		assertEquals(LocalTime.of(9, 30), slots.get(1).getStartTime());
+		assertEquals(LocalTime.of(10, 0), slots.get(1).getEndTime());
+		assertEquals(2, slots.get(0).getAvailableMembers());
+		assertEquals(1, slots.get(1).getAvailableMembers());
+		assertEquals(2, slots.get(1).getTotalMembers());
+	}
+
+	private static int seconds(int hour, int minute) {
+		return hour * 3600 + minute * 60;
+	}
+}
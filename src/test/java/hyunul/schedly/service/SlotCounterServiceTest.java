@@ -0,0 +1,361 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import hyunul.schedly.entity.RecurringSchedule;
+import hyunul.schedly.entity.User;
+import hyunul.schedly.entity.UserSchedule;
+import hyunul.schedly.repository.RecurringScheduleRepository;
+import hyunul.schedly.repository.ScheduleIntervalRepository;
+import hyunul.schedly.repository.UserScheduleRepository;
+
+class SlotCounterServiceTest {
+
+	private static final int HALF_HOUR = 30 * 60;
+	private static final Long GROUP_ID = 1L;
+	private static final LocalDate DAY = LocalDate.of(2024, 5, 1);
+	private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+	private static final Pattern DELTA = Pattern.compile("(\\w+):(-?\\d+)");
+
+	// 가짜 DB와 Redis 카운터 (카운터 키 → 필드 → 값)
+	private final List<UserSchedule> schedules = new ArrayList<>();
+	private final List<RecurringSchedule> rules = new ArrayList<>();
+	private final Set<Long> members = new TreeSet<>();
+	private final Map<String, Map<String, Integer>> counters = new HashMap<>();
+	private final List<String[]> appliedArgs = new ArrayList<>();
+
+	private SlotCounterService service;
+
+	@BeforeEach
+	void setUp() {
+		UserScheduleRepository userScheduleRepository = mock(UserScheduleRepository.class);
+		when(userScheduleRepository.findByUserIdAndDateBetween(anyLong(), any(), any())).thenAnswer(invocation -> {
+			Long userId = invocation.getArgument(0);
+			LocalDate from = invocation.getArgument(1);
+			LocalDate to = invocation.getArgument(2);
+			return schedules.stream()
+					.filter(schedule -> schedule.getUser().getId().equals(userId))
+					.filter(schedule -> !schedule.getDate().isBefore(from) && !schedule.getDate().isAfter(to))
+					.toList();
+		});
+		RecurringScheduleRepository recurringScheduleRepository = mock(RecurringScheduleRepository.class);
+		when(recurringScheduleRepository.findActiveBetween(anyLong(), any(), any())).thenAnswer(invocation -> {
+			Long userId = invocation.getArgument(0);
+			return rules.stream().filter(rule -> rule.getUser().getId().equals(userId)).toList();
+		});
+		GroupMembershipIndex groupMembershipIndex = mock(GroupMembershipIndex.class);
+		when(groupMembershipIndex.getGroupIds(anyLong())).thenAnswer(invocation ->
+				members.contains(invocation.<Long>getArgument(0)) ? Set.of(GROUP_ID) : Set.of());
+
+		service = new SlotCounterService(fakeRedis(), groupMembershipIndex, mock(ScheduleIntervalRepository.class),
+				userScheduleRepository, recurringScheduleRepository);
+		ReflectionTestUtils.setField(service, "enabled", true);
+		ReflectionTestUtils.setField(service, "ttlHours", 24L);
+		ReflectionTestUtils.setField(service, "pendingTtlSeconds", 60L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void wholeDaySetsEverySlot() {
+		assertEquals((1L << 48) - 1, SlotCounterService.busyMask(0, 24 * 3600));
+	}
+
+	@Test
+	void slotBoundaryEndDoesNotTouchNextSlot() {
+		// 09:00 ~ 09:30 → 18번 슬롯만
+		assertEquals(1L << 18, SlotCounterService.busyMask(9 * 3600, 9 * 3600 + HALF_HOUR));
+	}
+
+	@Test
+	void partialOverlapCoversWholeSlot() {
+		// 09:10 ~ 09:40 → 18, 19번 슬롯
+		assertEquals(0b11L << 18, SlotCounterService.busyMask(9 * 3600 + 600, 9 * 3600 + 2400));
+		// 23:59 ~ 24:00 → 마지막 슬롯
+		assertEquals(1L << 47, SlotCounterService.busyMask(24 * 3600 - 60, 24 * 3600));
+	}
+
+	@Test
+	void emptyOrReversedRangeIsZero() {
+		assertEquals(0L, SlotCounterService.busyMask(9 * 3600, 9 * 3600));
+		assertEquals(0L, SlotCounterService.busyMask(10 * 3600, 9 * 3600));
+	}
+
+	@Test
+	void matchesPerSlotOverlapOnRandomInput() {
+		Random random = new Random(11);
+		for (int round = 0; round < 500; round++) {
+			int start = random.nextInt(24 * 3600);
+			int end = start + random.nextInt(24 * 3600 - start + 1);
+
+			long expected = 0L;
+			for (int slot = 0; slot < SlotCounterService.SLOTS_PER_DAY; slot++) {
+				if (start < (slot + 1) * HALF_HOUR && end > slot * HALF_HOUR) {
+					expected |= 1L << slot;
+				}
+			}
+			assertEquals(expected, SlotCounterService.busyMask(start, end), "[" + start + ", " + end + ")");
+		}
+	}
+
+	@Test
+	void deltaListsNewlyBusyAndFreedSlots() {
+		assertEquals("m:1 0:1 2:-1", SlotCounterService.encodeDelta(0b110L, 0b011L, 1));
+		assertEquals("", SlotCounterService.encodeDelta(0b101L, 0b101L, 0));
+	}
+
+	@Test
+	void countersMatchFullRebuildAfterScheduleAndMembershipChanges() {
+		members.addAll(List.of(1L, 2L));
+		rules.add(RecurringSchedule.builder()
+				.user(user(1L))
+				.frequency(RecurringSchedule.Frequency.DAILY)
+				.startDate(DAY.minusDays(7))
+				.startTime(LocalTime.of(9, 0))
+				.endTime(LocalTime.of(9, 30))
+				.build());
+		schedules.add(schedule(1L, DAY, 13, 0, 14, 0));
+		schedules.add(schedule(2L, DAY, 10, 0, 12, 0));
+		schedules.add(schedule(2L, NEXT_DAY, 15, 0, 16, 0));
+		seedCounters(DAY);
+		seedCounters(NEXT_DAY);
+
+		// 생성 - 다른 멤버와 겹치는 일정
+		UserSchedule created = schedule(1L, DAY, 10, 30, 11, 15);
+		inTransaction(() -> {
+			SlotCounterService.MemberDaySnapshot snapshot = service.snapshot(1L, Set.of(DAY));
+			schedules.add(created);
+			service.applyChanges(snapshot);
+		});
+		assertMatchesRebuild();
+
+		// 생성 - 자기 일정과 겹치는 일정 (겹친 슬롯은 한 번만 센다)
+		UserSchedule overlapping = schedule(1L, DAY, 13, 30, 14, 30);
+		inTransaction(() -> {
+			SlotCounterService.MemberDaySnapshot snapshot = service.snapshot(1L, Set.of(DAY));
+			schedules.add(overlapping);
+			service.applyChanges(snapshot);
+		});
+		assertMatchesRebuild();
+
+		// 수정 - 시간 변경
+		UserSchedule moved = schedules.get(0);
+		inTransaction(() -> {
+			SlotCounterService.MemberDaySnapshot snapshot = service.snapshot(1L, Set.of(DAY));
+			moved.setStartTime(LocalTime.of(8, 0));
+			moved.setEndTime(LocalTime.of(9, 15));
+			service.applyChanges(snapshot);
+		});
+		assertMatchesRebuild();
+
+		// 수정 - 날짜 변경 (원본 날짜와 변경된 날짜 모두)
+		inTransaction(() -> {
+			SlotCounterService.MemberDaySnapshot snapshot = service.snapshot(1L, Set.of(DAY, NEXT_DAY));
+			overlapping.setDate(NEXT_DAY);
+			service.applyChanges(snapshot);
+		});
+		assertMatchesRebuild();
+
+		// 삭제
+		inTransaction(() -> {
+			SlotCounterService.MemberDaySnapshot snapshot = service.snapshot(1L, Set.of(DAY));
+			schedules.remove(created);
+			service.applyChanges(snapshot);
+		});
+		assertMatchesRebuild();
+
+		// 멤버 추가
+		schedules.add(schedule(3L, DAY, 9, 0, 10, 0));
+		inTransaction(() -> {
+			members.add(3L);
+			service.applyMembershipChange(GROUP_ID, 3L, 1);
+		});
+		assertMatchesRebuild();
+
+		// 멤버 제거
+		inTransaction(() -> {
+			members.remove(2L);
+			service.applyMembershipChange(GROUP_ID, 2L, -1);
+		});
+		assertMatchesRebuild();
+	}
+
+	@Test
+	void rolledBackWriteOnlyReleasesMark() {
+		members.add(1L);
+		seedCounters(DAY);
+		Map<String, Integer> before = new HashMap<>(counters.get(counterKey(DAY)));
+
+		TransactionSynchronizationManager.initSynchronization();
+		SlotCounterService.MemberDaySnapshot snapshot = service.snapshot(1L, Set.of(DAY));
+		schedules.add(schedule(1L, DAY, 9, 0, 10, 0));
+		service.applyChanges(snapshot);
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+		schedules.clear();
+
+		assertEquals(1, appliedArgs.size());
+		assertEquals("0", appliedArgs.get(0)[0]);
+		assertEquals(before, counters.get(counterKey(DAY)));
+	}
+
+	private StringRedisTemplate fakeRedis() {
+		@SuppressWarnings("unchecked")
+		SetOperations<String, String> setOperations = mock(SetOperations.class);
+		when(setOperations.members(any())).thenAnswer(invocation -> {
+			Set<String> dates = new TreeSet<>();
+			counters.keySet().forEach(key -> dates.add(key.substring(key.lastIndexOf(':') + 1)));
+			return dates;
+		});
+		return mock(StringRedisTemplate.class, invocation -> {
+			String method = invocation.getMethod().getName();
+			if (method.equals("opsForSet")) {
+				return setOperations;
+			}
+			if (method.equals("execute") && invocation.getArguments()[0] == SlotCounterService.APPLY_DELTAS) {
+				Object[] arguments = invocation.getArguments();
+				applyDeltas(invocation.getArgument(1), Arrays.copyOfRange(arguments, 2, arguments.length));
+				return 1L;
+			}
+			if (method.equals("execute")) {
+				// 쓰기 표시 - 카운터가 있다고 응답해 변경 전 상태를 읽게 한다
+				return 1L;
+			}
+			return RETURNS_DEFAULTS.answer(invocation);
+		});
+	}
+
+	// APPLY_DELTAS 스크립트와 같은 규칙으로 있는 카운터에만 델타 반영
+	private void applyDeltas(List<String> keys, Object[] args) {
+		String[] values = Arrays.stream(args).map(String::valueOf).toArray(String[]::new);
+		appliedArgs.add(values);
+		int dates = Integer.parseInt(values[0]);
+		for (int base = 0; base + dates + 2 <= keys.size(); base += dates + 2) {
+			for (int i = 1; i <= dates; i++) {
+				Map<String, Integer> fields = counters.get(keys.get(base + 1 + i));
+				if (fields == null) {
+					continue;
+				}
+				Matcher delta = DELTA.matcher(values[1 + i]);
+				while (delta.find()) {
+					fields.merge(delta.group(1), Integer.parseInt(delta.group(2)), Integer::sum);
+				}
+			}
+		}
+	}
+
+	private void inTransaction(Runnable work) {
+		TransactionSynchronizationManager.initSynchronization();
+		work.run();
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+	}
+
+	private void complete(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		for (TransactionSynchronization synchronization : synchronizations) {
+			if (status == TransactionSynchronization.STATUS_COMMITTED) {
+				synchronization.afterCommit();
+			}
+			synchronization.afterCompletion(status);
+		}
+	}
+
+	private void seedCounters(LocalDate date) {
+		SlotCounterService.Counters rebuilt = rebuild(date);
+		Map<String, Integer> fields = new HashMap<>();
+		fields.put("m", rebuilt.getTotalMembers());
+		for (int slot = 0; slot < SlotCounterService.SLOTS_PER_DAY; slot++) {
+			fields.put(String.valueOf(slot), rebuilt.getBusy()[slot]);
+		}
+		counters.put(counterKey(date), fields);
+	}
+
+	private void assertMatchesRebuild() {
+		for (LocalDate date : List.of(DAY, NEXT_DAY)) {
+			SlotCounterService.Counters rebuilt = rebuild(date);
+			Map<String, Integer> fields = counters.get(counterKey(date));
+			int[] busy = new int[SlotCounterService.SLOTS_PER_DAY];
+			for (int slot = 0; slot < busy.length; slot++) {
+				busy[slot] = fields.getOrDefault(String.valueOf(slot), 0);
+			}
+			assertEquals(rebuilt.getTotalMembers(), fields.get("m"), date.toString());
+			assertArrayEquals(rebuilt.getBusy(), busy, date.toString());
+		}
+	}
+
+	// 가짜 DB 전체로 다시 계산한 카운터
+	private SlotCounterService.Counters rebuild(LocalDate date) {
+		long[] masks = new long[members.size()];
+		int index = 0;
+		for (Long member : members) {
+			for (UserSchedule schedule : schedules) {
+				if (schedule.getUser().getId().equals(member) && schedule.getDate().equals(date)) {
+					masks[index] |= mask(schedule.getStartTime(), schedule.getEndTime());
+				}
+			}
+			for (RecurringSchedule rule : rules) {
+				if (rule.getUser().getId().equals(member) && !rule.occurrencesBetween(date, date).isEmpty()) {
+					masks[index] |= mask(rule.getStartTime(), rule.getEndTime());
+				}
+			}
+			index++;
+		}
+		return SlotCounterService.Counters.of(masks);
+	}
+
+	private static long mask(LocalTime start, LocalTime end) {
+		return SlotCounterService.busyMask(start.toSecondOfDay(), end.toSecondOfDay());
+	}
+
+	private static String counterKey(LocalDate date) {
+		return "schedule:slot-counters:" + GROUP_ID + ":" + date;
+	}
+
+	private static UserSchedule schedule(Long userId, LocalDate date, int startHour, int startMinute,
+										 int endHour, int endMinute) {
+		return UserSchedule.builder()
+				.user(user(userId))
+				.date(date)
+				.startTime(LocalTime.of(startHour, startMinute))
+				.endTime(LocalTime.of(endHour, endMinute))
+				.type(UserSchedule.ScheduleType.BUSY)
+				.build();
+	}
+
+	private static User user(Long id) {
+		return User.builder().id(id).build();
+	}
+}
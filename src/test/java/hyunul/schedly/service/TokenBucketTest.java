@@ -0,0 +1,51 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	@Test
+	void startsFullAndReportsWaitWhenEmpty() {
+		TokenBucket bucket = new TokenBucket(3, Duration.ofHours(1));
+
+		assertEquals(0, bucket.tryAcquire());
+		assertEquals(0, bucket.tryAcquire());
+		assertEquals(0, bucket.tryAcquire());
+
+		// 한 시간에 3개 - 다음 토큰까지 최대 20분
+		long wait = bucket.tryAcquire();
+		assertTrue(wait > 0);
+		assertTrue(wait <= TimeUnit.MINUTES.toNanos(20), "wait " + wait);
+	}
+
+	@Test
+	void refillsAfterReportedWait() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(1, Duration.ofMillis(100));
+		assertEquals(0, bucket.tryAcquire());
+
+		long wait = bucket.tryAcquire();
+		assertTrue(wait > 0);
+		TimeUnit.NANOSECONDS.sleep(wait + TimeUnit.MILLISECONDS.toNanos(20));
+
+		assertEquals(0, bucket.tryAcquire());
+	}
+
+	@Test
+	void doesNotAccumulateBeyondCapacity() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1));
+		assertEquals(0, bucket.tryAcquire());
+		assertEquals(0, bucket.tryAcquire());
+
+		Thread.sleep(1500);
+
+		assertEquals(0, bucket.tryAcquire());
+		assertEquals(0, bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire() > 0);
+	}
+}
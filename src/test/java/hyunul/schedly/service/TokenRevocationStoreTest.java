@@ -0,0 +1,132 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+class TokenRevocationStoreTest {
+
+	private StringRedisTemplate redis;
+	private ZSetOperations<String, String> zset;
+	private Cursor<String> legacyKeys;
+	private TokenRevocationStore store;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redis = mock(StringRedisTemplate.class);
+		zset = mock(ZSetOperations.class);
+		legacyKeys = mock(Cursor.class);
+		when(redis.opsForZSet()).thenReturn(zset);
+		when(redis.scan(any(ScanOptions.class))).thenReturn(legacyKeys);
+		store = new TokenRevocationStore(redis);
+	}
+
+	@Test
+	void syncReplacesLocalSetWithRedisEntries() {
+		long future = System.currentTimeMillis() + 60_000;
+		redisHolds(new DefaultTypedTuple<>("a", (double) future));
+
+		store.sync();
+
+		assertTrue(store.isRevoked("a"));
+		assertFalse(store.isRevoked("b"));
+	}
+
+	@Test
+	void syncKeepsValidLocalEntriesMissingFromRedis() {
+		long future = System.currentTimeMillis() + 60_000;
+		// 동기화 사이에 pub/sub으로만 받은 항목
+		store.onMessage(message("pushed|" + future), null);
+		store.onMessage(message("stale|" + (System.currentTimeMillis() - 1)), null);
+		redisHolds(new DefaultTypedTuple<>("a", (double) future));
+
+		store.sync();
+
+		assertTrue(store.isRevoked("a"));
+		assertTrue(store.isRevoked("pushed"));
+		assertFalse(store.isRevoked("stale"));
+	}
+
+	@Test
+	void syncFailureKeepsLastKnownSet() {
+		long future = System.currentTimeMillis() + 60_000;
+		redisHolds(new DefaultTypedTuple<>("a", (double) future));
+		store.sync();
+		when(zset.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble()))
+				.thenThrow(new IllegalStateException("redis down"));
+
+		store.sync();
+
+		assertTrue(store.isRevoked("a"));
+	}
+
+	@Test
+	void revokeAppliesLocallyEvenWhenRedisFails() {
+		when(zset.add(anyString(), anyString(), anyDouble())).thenThrow(new IllegalStateException("redis down"));
+
+		store.revoke("a", System.currentTimeMillis() + 60_000);
+
+		assertTrue(store.isRevoked("a"));
+	}
+
+	@Test
+	void messageSplitsOnLastSeparatorAndIgnoresGarbage() {
+		long future = System.currentTimeMillis() + 60_000;
+
+		store.onMessage(message("x|y|" + future), null);
+		store.onMessage(message("no-separator"), null);
+		store.onMessage(message("bad|expiry"), null);
+
+		assertTrue(store.isRevoked("x|y"));
+		assertFalse(store.isRevoked("bad"));
+	}
+
+	@Test
+	void importsLegacyBlacklistKeysAsDigestIds() {
+		String key = "\"jwt:blacklist:legacy.token\"";
+		when(legacyKeys.hasNext()).thenReturn(true, false);
+		when(legacyKeys.next()).thenReturn(key);
+		when(redis.getExpire(key, TimeUnit.MILLISECONDS)).thenReturn(60_000L);
+
+		store.sync();
+
+		verify(zset).add(eq("jwt:revoked"), eq(JwtService.digest("legacy.token")), anyDouble());
+	}
+
+	@Test
+	void legacyTokenStripsQuotesAndPrefix() {
+		assertEquals("abc.def", TokenRevocationStore.legacyToken("\"jwt:blacklist:abc.def\""));
+		assertEquals("abc.def", TokenRevocationStore.legacyToken("jwt:blacklist:abc.def"));
+	}
+
+	@SafeVarargs
+	private void redisHolds(TypedTuple<String>... entries) {
+		when(zset.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of(entries));
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage("jwt:revocations".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,75 @@
+package hyunul.schedly.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class TopWindowHeapTest {
+
+	@Test
+	void rootIsLowestRankedCandidate() {
+		TopWindowHeap heap = new TopWindowHeap(3);
+		heap.offer(2, 0);
+		heap.offer(5, 1);
+		heap.offer(3, 2);
+
+		assertEquals(3, heap.size());
+		assertEquals(2, heap.lowestAvailable());
+		assertEquals(0, heap.lowestStart());
+	}
+
+	@Test
+	void replacesLowestOnlyWhenStrictlyBetter() {
+		TopWindowHeap heap = new TopWindowHeap(2);
+		heap.offer(4, 0);
+		heap.offer(3, 1);
+		heap.offer(3, 2); // 동점이면 먼저 들어온(이른 시작) 후보 유지
+		assertEquals(3, heap.lowestAvailable());
+		assertEquals(1, heap.lowestStart());
+
+		heap.offer(6, 3);
+		assertEquals(4, heap.lowestAvailable());
+		assertEquals(0, heap.lowestStart());
+	}
+
+	@Test
+	void laterStartRanksLowerOnTies() {
+		TopWindowHeap heap = new TopWindowHeap(3);
+		heap.offer(2, 0);
+		heap.offer(2, 1);
+		heap.offer(2, 2);
+
+		assertEquals(2, heap.lowestStart());
+		heap.removeLowest();
+		assertEquals(1, heap.lowestStart());
+		heap.removeLowest();
+		assertEquals(0, heap.lowestStart());
+		heap.removeLowest();
+		assertEquals(0, heap.size());
+	}
+
+	@Test
+	void removeLowestYieldsAscendingRank() {
+		TopWindowHeap heap = new TopWindowHeap(5);
+		int[] available = {3, 1, 4, 1, 5};
+		for (int start = 0; start < available.length; start++) {
+			heap.offer(available[start], start);
+		}
+
+		int[][] expected = {{1, 3}, {1, 1}, {3, 0}, {4, 2}, {5, 4}};
+		for (int[] candidate : expected) {
+			assertEquals(candidate[0], heap.lowestAvailable());
+			assertEquals(candidate[1], heap.lowestStart());
+			heap.removeLowest();
+		}
+		assertEquals(0, heap.size());
+	}
+
+	@Test
+	void zeroCapacityKeepsNothing() {
+		TopWindowHeap heap = new TopWindowHeap(0);
+		heap.offer(5, 0);
+
+		assertEquals(0, heap.size());
+	}
+}